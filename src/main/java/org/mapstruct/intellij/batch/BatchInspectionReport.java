@@ -0,0 +1,163 @@
+/*
+ *  Copyright 2017 the MapStruct authors (http://www.mapstruct.org/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.intellij.batch;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.google.gson.GsonBuilder;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The machine readable result of a {@link MapstructBatchInspector} run. It is serialized as JSON.
+ *
+ * @author Filip Hrisafov
+ */
+public class BatchInspectionReport {
+
+    private final String project;
+    private final long totalTimeMs;
+    private final Map<String, Long> inspectionTimesMs = new TreeMap<>();
+    private final List<FileReport> files;
+
+    BatchInspectionReport(@NotNull String project, long totalTimeMs, @NotNull List<FileReport> files) {
+        this.project = project;
+        this.totalTimeMs = totalTimeMs;
+        this.files = files;
+        for ( FileReport file : files ) {
+            file.inspectionTimesMs.forEach( ( inspection, time ) -> inspectionTimesMs.merge( inspection, time,
+                Long::sum ) );
+        }
+    }
+
+    @NotNull
+    public String getProject() {
+        return project;
+    }
+
+    public long getTotalTimeMs() {
+        return totalTimeMs;
+    }
+
+    /**
+     * @return the time spent in each inspection summed over all the files, keyed by the inspection short name
+     */
+    @NotNull
+    public Map<String, Long> getInspectionTimesMs() {
+        return inspectionTimesMs;
+    }
+
+    @NotNull
+    public List<FileReport> getFiles() {
+        return files;
+    }
+
+    /**
+     * Write the report as JSON to the given {@code path}.
+     *
+     * @param path the path of the report file
+     *
+     * @throws IOException if the report could not be written
+     */
+    public void write(@NotNull Path path) throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        if ( parent != null ) {
+            Files.createDirectories( parent );
+        }
+        try ( Writer writer = Files.newBufferedWriter( path, StandardCharsets.UTF_8 ) ) {
+            new GsonBuilder().setPrettyPrinting().create().toJson( this, writer );
+        }
+    }
+
+    /**
+     * The result of inspecting a single file.
+     */
+    public static class FileReport {
+
+        private final String path;
+        private final long timeMs;
+        private final Map<String, Long> inspectionTimesMs;
+        private final List<Problem> problems = new ArrayList<>();
+
+        FileReport(@NotNull String path, long timeMs, @NotNull Map<String, Long> inspectionTimesMs) {
+            this.path = path;
+            this.timeMs = timeMs;
+            this.inspectionTimesMs = inspectionTimesMs;
+        }
+
+        @NotNull
+        public String getPath() {
+            return path;
+        }
+
+        public long getTimeMs() {
+            return timeMs;
+        }
+
+        @NotNull
+        public Map<String, Long> getInspectionTimesMs() {
+            return inspectionTimesMs;
+        }
+
+        @NotNull
+        public List<Problem> getProblems() {
+            return problems;
+        }
+    }
+
+    /**
+     * A single problem reported by an inspection.
+     */
+    public static class Problem {
+
+        private final String inspection;
+        private final int line;
+        private final String message;
+
+        Problem(@NotNull String inspection, int line, @NotNull String message) {
+            this.inspection = inspection;
+            this.line = line;
+            this.message = message;
+        }
+
+        @NotNull
+        public String getInspection() {
+            return inspection;
+        }
+
+        /**
+         * @return the 1-based line of the problem
+         */
+        public int getLine() {
+            return line;
+        }
+
+        @NotNull
+        public String getMessage() {
+            return message;
+        }
+    }
+}
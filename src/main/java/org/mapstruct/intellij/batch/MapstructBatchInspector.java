@@ -0,0 +1,162 @@
+/*
+ *  Copyright 2017 the MapStruct authors (http://www.mapstruct.org/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.intellij.batch;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.intellij.codeInspection.InspectionManager;
+import com.intellij.codeInspection.LocalInspectionEP;
+import com.intellij.codeInspection.LocalInspectionTool;
+import com.intellij.codeInspection.ProblemDescriptor;
+import com.intellij.codeInspection.ProblemDescriptorUtil;
+import com.intellij.concurrency.JobLauncher;
+import com.intellij.ide.highlighter.JavaFileType;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.project.DumbService;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiJavaFile;
+import com.intellij.psi.PsiManager;
+import com.intellij.psi.search.FileTypeIndex;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.util.containers.ContainerUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import static org.mapstruct.intellij.util.MapstructUtil.isMapStructPresent;
+
+/**
+ * Runs all the MapStruct inspections over all the Java source files of a project, without any UI. The files are
+ * inspected concurrently.
+ *
+ * @author Filip Hrisafov
+ */
+public class MapstructBatchInspector {
+
+    private static final String MAPSTRUCT_INSPECTIONS_PACKAGE = "org.mapstruct.intellij.";
+
+    private final Project project;
+
+    public MapstructBatchInspector(@NotNull Project project) {
+        this.project = project;
+    }
+
+    /**
+     * Inspect the project. This method waits until the indexes are ready, it should not be called from within a
+     * read action.
+     *
+     * @param indicator the progress indicator
+     *
+     * @return the report of the inspection
+     */
+    @NotNull
+    public BatchInspectionReport inspect(@NotNull ProgressIndicator indicator) {
+        long start = System.nanoTime();
+        DumbService dumbService = DumbService.getInstance( project );
+        dumbService.waitForSmartMode();
+
+        List<LocalInspectionTool> inspections = getMapstructInspections();
+        Collection<VirtualFile> files = dumbService.runReadActionInSmartMode( () -> FileTypeIndex.getFiles(
+            JavaFileType.INSTANCE,
+            GlobalSearchScope.projectScope( project )
+        ) );
+
+        List<BatchInspectionReport.FileReport> fileReports = ContainerUtil.createConcurrentList();
+        JobLauncher.getInstance().invokeConcurrentlyUnderProgress(
+            new ArrayList<>( files ),
+            indicator,
+            false,
+            file -> {
+                BatchInspectionReport.FileReport fileReport = dumbService.runReadActionInSmartMode( () ->
+                    inspectFile( file, inspections ) );
+                if ( fileReport != null ) {
+                    fileReports.add( fileReport );
+                }
+                return true;
+            }
+        );
+
+        List<BatchInspectionReport.FileReport> sortedReports = new ArrayList<>( fileReports );
+        sortedReports.sort( Comparator.comparing( BatchInspectionReport.FileReport::getPath ) );
+        return new BatchInspectionReport( project.getName(), elapsedMs( start ), sortedReports );
+    }
+
+    @Nullable
+    private BatchInspectionReport.FileReport inspectFile(@NotNull VirtualFile file,
+        @NotNull List<LocalInspectionTool> inspections) {
+        if ( !file.isValid() ) {
+            return null;
+        }
+        PsiFile psiFile = PsiManager.getInstance( project ).findFile( file );
+        if ( !( psiFile instanceof PsiJavaFile ) || !isMapStructPresent( psiFile ) ) {
+            return null;
+        }
+
+        InspectionManager inspectionManager = InspectionManager.getInstance( project );
+        long fileStart = System.nanoTime();
+        Map<String, Long> inspectionTimes = new LinkedHashMap<>();
+        List<BatchInspectionReport.Problem> problems = new ArrayList<>();
+        for ( LocalInspectionTool inspection : inspections ) {
+            long inspectionStart = System.nanoTime();
+            List<ProblemDescriptor> descriptors = inspection.processFile( psiFile, inspectionManager );
+            inspectionTimes.put( inspection.getShortName(), elapsedMs( inspectionStart ) );
+            for ( ProblemDescriptor descriptor : descriptors ) {
+                problems.add( new BatchInspectionReport.Problem(
+                    inspection.getShortName(),
+                    descriptor.getLineNumber() + 1,
+                    ProblemDescriptorUtil.renderDescriptionMessage( descriptor, descriptor.getPsiElement() )
+                ) );
+            }
+        }
+
+        BatchInspectionReport.FileReport fileReport = new BatchInspectionReport.FileReport(
+            file.getPath(),
+            elapsedMs( fileStart ),
+            inspectionTimes
+        );
+        fileReport.getProblems().addAll( problems );
+        return fileReport;
+    }
+
+    /**
+     * @return new instances of all the inspections registered by the MapStruct plugin
+     */
+    @NotNull
+    private static List<LocalInspectionTool> getMapstructInspections() {
+        List<LocalInspectionTool> inspections = new ArrayList<>();
+        for ( LocalInspectionEP inspectionEP : LocalInspectionEP.LOCAL_INSPECTION.getExtensions() ) {
+            if ( inspectionEP.implementationClass != null
+                && inspectionEP.implementationClass.startsWith( MAPSTRUCT_INSPECTIONS_PACKAGE ) ) {
+                inspections.add( (LocalInspectionTool) inspectionEP.instantiateTool() );
+            }
+        }
+        return inspections;
+    }
+
+    private static long elapsedMs(long startNanos) {
+        return TimeUnit.NANOSECONDS.toMillis( System.nanoTime() - startNanos );
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ *  Copyright 2017 the MapStruct authors (http://www.mapstruct.org/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.intellij.batch;
+
+import java.io.File;
+import java.nio.file.Paths;
+
+import com.intellij.ide.impl.ProjectUtil;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.application.ApplicationStarterEx;
+import com.intellij.openapi.application.ex.ApplicationManagerEx;
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.openapi.progress.EmptyProgressIndicator;
+import com.intellij.openapi.project.Project;
+import org.jetbrains.annotations.NonNls;
+
+/**
+ * Headless application starter that runs all the MapStruct inspections over a project and writes a JSON report.
+ * <p>
+ * Usage: {@code idea mapstruct-inspect <project path> <report file>}
+ *
+ * @author Filip Hrisafov
+ */
+public class MapstructInspectionStarter extends ApplicationStarterEx {
+
+    private static final Logger LOG = Logger.getInstance( MapstructInspectionStarter.class );
+
+    @NonNls
+    private static final String COMMAND_NAME = "mapstruct-inspect";
+
+    private String projectPath;
+    private String reportPath;
+
+    @Override
+    public String getCommandName() {
+        return COMMAND_NAME;
+    }
+
+    @Override
+    public boolean isHeadless() {
+        return true;
+    }
+
+    @Override
+    public void premain(String[] args) {
+        // The first argument is the command name
+        if ( args.length < 3 ) {
+            System.err.println( "Usage: " + COMMAND_NAME + " <project path> <report file>" );
+            System.exit( 1 );
+        }
+        projectPath = new File( args[1] ).getAbsolutePath();
+        reportPath = args[2];
+    }
+
+    @Override
+    public void main(String[] args) {
+        Project project = ProjectUtil.openOrImport( projectPath, null, false );
+        if ( project == null ) {
+            System.err.println( "Unable to open project: " + projectPath );
+            System.exit( 1 );
+            return;
+        }
+
+        // The inspection waits for the indexing, that needs to happen outside of the EDT
+        ApplicationManager.getApplication().executeOnPooledThread( () -> {
+            int exitCode = 0;
+            try {
+                BatchInspectionReport report = new MapstructBatchInspector( project )
+                    .inspect( new EmptyProgressIndicator() );
+                report.write( Paths.get( reportPath ) );
+                System.out.println( "MapStruct inspection report written to " + reportPath + " (" +
+                    report.getFiles().size() + " files in " + report.getTotalTimeMs() + " ms)" );
+            }
+            catch ( Exception e ) {
+                LOG.error( "MapStruct inspection failed", e );
+                exitCode = 1;
+            }
+
+            int finalExitCode = exitCode;
+            ApplicationManager.getApplication().invokeLater( () -> {
+                ProjectUtil.closeAndDispose( project );
+                if ( finalExitCode == 0 ) {
+                    ApplicationManagerEx.getApplicationEx().exit( true, true );
+                }
+                else {
+                    System.exit( finalExitCode );
+                }
+            } );
+        } );
+    }
+}
@@ -36,6 +36,7 @@
 import static com.intellij.patterns.StandardPatterns.or;
 import static org.mapstruct.intellij.util.MapstructElementUtils.mapperConfigElementPattern;
 import static org.mapstruct.intellij.util.MapstructElementUtils.mapperElementPattern;
+import static org.mapstruct.intellij.util.MapstructUtil.isMapStructPresent;
 
 /**
  * @author Filip Hrisafov
@@ -69,6 +70,9 @@ public static class ComponentModelCompletionProvider extends CompletionProvider<
         protected void addCompletions(@NotNull CompletionParameters parameters, ProcessingContext context,
             @NotNull CompletionResultSet result) {
             PsiElement position = parameters.getPosition();
+            if ( !isMapStructPresent( position.getProject() ) ) {
+                return;
+            }
 
             if ( !( position.getParent() instanceof PsiLiteralExpression ) ) {
                 //We should only return if we are in a literal expression, i.e. inside the quotes
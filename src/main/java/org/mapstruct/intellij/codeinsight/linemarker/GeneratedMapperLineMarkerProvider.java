@@ -0,0 +1,134 @@
+/*
+ *  Copyright 2017 the MapStruct authors (http://www.mapstruct.org/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.intellij.codeinsight.linemarker;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import javax.swing.Icon;
+
+import com.intellij.codeInsight.daemon.RelatedItemLineMarkerInfo;
+import com.intellij.codeInsight.daemon.RelatedItemLineMarkerProvider;
+import com.intellij.codeInsight.navigation.NavigationGutterIconBuilder;
+import com.intellij.icons.AllIcons;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiIdentifier;
+import com.intellij.psi.PsiMethod;
+import org.jetbrains.annotations.NotNull;
+import org.mapstruct.intellij.MapStructBundle;
+import org.mapstruct.intellij.index.GeneratedMapperIndex;
+
+import static org.mapstruct.intellij.util.MapstructUtil.isMapStructPresent;
+import static org.mapstruct.intellij.util.MapstructUtil.isMapper;
+
+/**
+ * Gutter navigation from a mapper (and its methods) to the implementation generated by the MapStruct processor, and
+ * from the generated implementation back to the mapper. The generated implementations are found with the
+ * {@link GeneratedMapperIndex}.
+ *
+ * @author Filip Hrisafov
+ */
+public class GeneratedMapperLineMarkerProvider extends RelatedItemLineMarkerProvider {
+
+    @Override
+    protected void collectNavigationMarkers(@NotNull PsiElement element,
+        @NotNull Collection<? super RelatedItemLineMarkerInfo> result) {
+        if ( !( element instanceof PsiIdentifier ) || !isMapStructPresent( element.getProject() ) ) {
+            return;
+        }
+
+        PsiElement parent = element.getParent();
+        if ( parent instanceof PsiClass && ( (PsiClass) parent ).getNameIdentifier() == element ) {
+            collectClassMarkers( (PsiClass) parent, element, result );
+        }
+        else if ( parent instanceof PsiMethod && ( (PsiMethod) parent ).getNameIdentifier() == element ) {
+            collectMethodMarkers( (PsiMethod) parent, element, result );
+        }
+    }
+
+    private static void collectClassMarkers(@NotNull PsiClass psiClass, @NotNull PsiElement identifier,
+        @NotNull Collection<? super RelatedItemLineMarkerInfo> result) {
+        if ( GeneratedMapperIndex.isGeneratedMapper( psiClass ) ) {
+            List<PsiClass> mappers = new ArrayList<>();
+            for ( PsiClass superClass : psiClass.getSupers() ) {
+                if ( isMapper( superClass ) ) {
+                    mappers.add( superClass );
+                }
+            }
+            addMarker( mappers, AllIcons.Gutter.ImplementingMethod, "line.marker.mapper", identifier, result );
+        }
+        else if ( isMapper( psiClass ) ) {
+            addMarker(
+                GeneratedMapperIndex.findImplementations( psiClass ),
+                AllIcons.Gutter.ImplementedMethod,
+                "line.marker.generated.implementation",
+                identifier,
+                result
+            );
+        }
+    }
+
+    private static void collectMethodMarkers(@NotNull PsiMethod method, @NotNull PsiElement identifier,
+        @NotNull Collection<? super RelatedItemLineMarkerInfo> result) {
+        PsiClass containingClass = method.getContainingClass();
+        if ( containingClass == null || method.isConstructor() ) {
+            return;
+        }
+
+        List<PsiMethod> targets = new ArrayList<>();
+        if ( GeneratedMapperIndex.isGeneratedMapper( containingClass ) ) {
+            for ( PsiMethod superMethod : method.findSuperMethods() ) {
+                PsiClass superClass = superMethod.getContainingClass();
+                if ( superClass != null && isMapper( superClass ) ) {
+                    targets.add( superMethod );
+                }
+            }
+            addMarker( targets, AllIcons.Gutter.ImplementingMethod, "line.marker.mapper", identifier, result );
+        }
+        else if ( isMapper( containingClass ) ) {
+            for ( PsiClass implementation : GeneratedMapperIndex.findImplementations( containingClass ) ) {
+                PsiMethod implementationMethod = implementation.findMethodBySignature( method, false );
+                if ( implementationMethod != null ) {
+                    targets.add( implementationMethod );
+                }
+            }
+            addMarker(
+                targets,
+                AllIcons.Gutter.ImplementedMethod,
+                "line.marker.generated.implementation",
+                identifier,
+                result
+            );
+        }
+    }
+
+    private static void addMarker(@NotNull Collection<? extends PsiElement> targets, @NotNull Icon icon,
+        @NotNull String tooltipKey, @NotNull PsiElement identifier,
+        @NotNull Collection<? super RelatedItemLineMarkerInfo> result) {
+        if ( targets.isEmpty() ) {
+            return;
+        }
+        result.add( NavigationGutterIconBuilder.create( icon )
+            .setTargets( targets )
+            .setTooltipText( MapStructBundle.message( tooltipKey ) )
+            .createLineMarkerInfo( identifier ) );
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ *  Copyright 2017 the MapStruct authors (http://www.mapstruct.org/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.intellij.codeinsight.linemarker;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.intellij.codeInsight.AnnotationUtil;
+import com.intellij.codeInsight.daemon.LineMarkerInfo;
+import com.intellij.codeInsight.daemon.LineMarkerProvider;
+import com.intellij.codeInsight.navigation.NavigationGutterIconBuilder;
+import com.intellij.icons.AllIcons;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.util.NotNullLazyValue;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiIdentifier;
+import com.intellij.psi.PsiMethod;
+import com.intellij.psi.PsiModifier;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.mapstruct.AfterMapping;
+import org.mapstruct.BeforeMapping;
+import org.mapstruct.ObjectFactory;
+import org.mapstruct.intellij.MapStructBundle;
+import org.mapstruct.intellij.util.PropertyModel;
+import org.mapstruct.intellij.util.TargetUtils;
+
+import static org.mapstruct.intellij.util.MapstructUtil.isMapStructPresent;
+import static org.mapstruct.intellij.util.MapstructUtil.isMapper;
+import static org.mapstruct.intellij.util.MapstructUtil.isMappingMethod;
+
+/**
+ * Gutter marker for the mapping methods of a {@code @Mapper} that shows how many target properties are mapped and
+ * how many are not, and navigates to the target properties (the unmapped ones first).
+ * <p>
+ * Computing the unmapped properties needs the property models of the source and the target classes, so the markers
+ * are only created in the slow line marker pass. All the methods of one mapper are processed together, the mapper
+ * is checked only once and the property models are shared through the {@link PropertyModel} cache.
+ *
+ * @author Filip Hrisafov
+ */
+public class MappingMethodLineMarkerProvider implements LineMarkerProvider {
+
+    private static final String[] NON_MAPPING_METHOD_ANNOTATIONS = {
+        ObjectFactory.class.getName(),
+        BeforeMapping.class.getName(),
+        AfterMapping.class.getName()
+    };
+
+    @Nullable
+    @Override
+    public LineMarkerInfo getLineMarkerInfo(@NotNull PsiElement element) {
+        return null;
+    }
+
+    @Override
+    public void collectSlowLineMarkers(@NotNull List<PsiElement> elements,
+        @NotNull Collection<LineMarkerInfo> result) {
+        if ( elements.isEmpty() || !isMapStructPresent( elements.get( 0 ).getProject() ) ) {
+            return;
+        }
+
+        Map<PsiClass, List<PsiMethod>> methodsPerMapper = new LinkedHashMap<>();
+        for ( PsiElement element : elements ) {
+            PsiMethod method = getMappingMethod( element );
+            if ( method != null ) {
+                methodsPerMapper.computeIfAbsent( method.getContainingClass(), mapper -> new ArrayList<>() )
+                    .add( method );
+            }
+        }
+
+        for ( Map.Entry<PsiClass, List<PsiMethod>> entry : methodsPerMapper.entrySet() ) {
+            ProgressManager.checkCanceled();
+            if ( !isMapper( entry.getKey() ) ) {
+                continue;
+            }
+
+            for ( PsiMethod method : entry.getValue() ) {
+                ProgressManager.checkCanceled();
+                LineMarkerInfo info = createLineMarkerInfo( method );
+                if ( info != null ) {
+                    result.add( info );
+                }
+            }
+        }
+    }
+
+    /**
+     * A candidate mapping method is a method annotated with one of the mapping annotations, or an abstract method
+     * with parameters (the same methods that are stored in the {@link org.mapstruct.intellij.index.MapperIndex}).
+     * Lifecycle methods and object factories are never mapping methods.
+     *
+     * @param element the element for which markers are collected
+     *
+     * @return the method if the {@code element} is the name identifier of a candidate mapping method, {@code null}
+     * otherwise
+     */
+    @Nullable
+    private static PsiMethod getMappingMethod(@NotNull PsiElement element) {
+        if ( !( element instanceof PsiIdentifier ) || !( element.getParent() instanceof PsiMethod ) ) {
+            return null;
+        }
+
+        PsiMethod method = (PsiMethod) element.getParent();
+        if ( method.getNameIdentifier() != element || method.isConstructor() || method.getContainingClass() == null ) {
+            return null;
+        }
+
+        boolean candidate = isMappingMethod( method ) || ( method.hasModifierProperty( PsiModifier.ABSTRACT )
+            && method.getParameterList().getParametersCount() > 0 );
+        if ( !candidate || AnnotationUtil.findAnnotation( method, NON_MAPPING_METHOD_ANNOTATIONS ) != null ) {
+            return null;
+        }
+        return method;
+    }
+
+    @Nullable
+    private static LineMarkerInfo createLineMarkerInfo(@NotNull PsiMethod method) {
+        PsiClass targetClass = TargetUtils.getRelevantClass( method );
+        if ( targetClass == null ) {
+            return null;
+        }
+
+        PropertyModel targetModel = PropertyModel.getInstance( targetClass, method );
+        if ( targetModel.getWriteProperties().isEmpty() ) {
+            return null;
+        }
+
+        List<String> unmappedProperties = TargetUtils.findUnmappedTargetProperties( method, targetClass );
+        int unmapped = unmappedProperties.size();
+        int mapped = targetModel.getWriteProperties().size() - unmapped;
+
+        //noinspection ConstantConditions
+        return NavigationGutterIconBuilder.create( AllIcons.Nodes.Property )
+            .setTargets( new NotNullLazyValue<Collection<? extends PsiElement>>() {
+                @NotNull
+                @Override
+                protected Collection<? extends PsiElement> compute() {
+                    return findTargetElements( targetModel, unmappedProperties );
+                }
+            } )
+            .setPopupTitle( MapStructBundle.message( "line.marker.mapping.method.targets" ) )
+            .setTooltipText( MapStructBundle.message( "line.marker.mapping.method", mapped, unmapped ) )
+            .createLineMarkerInfo( method.getNameIdentifier() );
+    }
+
+    /**
+     * @param targetModel the property model of the target class
+     * @param unmappedProperties the unmapped target properties
+     *
+     * @return the elements of the unmapped target properties followed by the elements of the mapped ones
+     */
+    @NotNull
+    private static List<PsiElement> findTargetElements(@NotNull PropertyModel targetModel,
+        @NotNull List<String> unmappedProperties) {
+        List<PsiElement> elements = new ArrayList<>();
+        for ( String unmappedProperty : unmappedProperties ) {
+            PropertyModel.Property property = targetModel.findWriteProperty( unmappedProperty );
+            if ( property != null ) {
+                elements.add( property.getElement() );
+            }
+        }
+
+        targetModel.getWriteProperties().stream()
+            .filter( property -> !unmappedProperties.contains( property.getName() ) )
+            .sorted( Comparator.comparing( PropertyModel.Property::getName ) )
+            .forEach( property -> elements.add( property.getElement() ) );
+        return elements;
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ *  Copyright 2017 the MapStruct authors (http://www.mapstruct.org/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.intellij.codeinsight.linemarker;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import com.intellij.codeInsight.daemon.RelatedItemLineMarkerInfo;
+import com.intellij.codeInsight.daemon.RelatedItemLineMarkerProvider;
+import com.intellij.codeInsight.navigation.NavigationGutterIconBuilder;
+import com.intellij.icons.AllIcons;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.NotNullLazyValue;
+import com.intellij.psi.JavaPsiFacade;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiIdentifier;
+import com.intellij.psi.PsiMethod;
+import com.intellij.psi.search.GlobalSearchScope;
+import org.jetbrains.annotations.NotNull;
+import org.mapstruct.intellij.MapStructBundle;
+import org.mapstruct.intellij.graph.MappingEdge;
+import org.mapstruct.intellij.graph.MappingGraph;
+
+import static org.mapstruct.intellij.util.MapstructUtil.isMapStructPresent;
+
+/**
+ * Gutter navigation from a class to the mapping methods that produce it. The mapping methods are looked up in the
+ * {@link MappingGraph}, the mappers are only resolved when the navigation is performed.
+ *
+ * @author Filip Hrisafov
+ */
+public class ProducingMappersLineMarkerProvider extends RelatedItemLineMarkerProvider {
+
+    @Override
+    protected void collectNavigationMarkers(@NotNull PsiElement element,
+        @NotNull Collection<? super RelatedItemLineMarkerInfo> result) {
+        if ( !( element instanceof PsiIdentifier ) || !( element.getParent() instanceof PsiClass )
+            || !isMapStructPresent( element.getProject() ) ) {
+            return;
+        }
+
+        PsiClass psiClass = (PsiClass) element.getParent();
+        String qualifiedName = psiClass.getQualifiedName();
+        if ( psiClass.getNameIdentifier() != element || qualifiedName == null ) {
+            return;
+        }
+
+        Project project = element.getProject();
+        List<MappingEdge> mappingMethods = MappingGraph.getInstance( project ).findMappingsTo( qualifiedName );
+        if ( mappingMethods.isEmpty() ) {
+            return;
+        }
+
+        result.add( NavigationGutterIconBuilder.create( AllIcons.Gutter.ImplementingMethod )
+            .setTargets( new NotNullLazyValue<Collection<? extends PsiElement>>() {
+                @NotNull
+                @Override
+                protected Collection<? extends PsiElement> compute() {
+                    return findMethods( project, mappingMethods );
+                }
+            } )
+            .setTooltipText( MapStructBundle.message( "line.marker.producing.mappers" ) )
+            .createLineMarkerInfo( element ) );
+    }
+
+    @NotNull
+    private static Collection<PsiMethod> findMethods(@NotNull Project project,
+        @NotNull List<MappingEdge> mappingMethods) {
+        JavaPsiFacade facade = JavaPsiFacade.getInstance( project );
+        GlobalSearchScope scope = GlobalSearchScope.projectScope( project );
+        List<PsiMethod> methods = new ArrayList<>();
+        for ( MappingEdge mappingMethod : mappingMethods ) {
+            PsiClass mapper = facade.findClass( mappingMethod.getMapper(), scope );
+            if ( mapper != null ) {
+                for ( PsiMethod method : mapper.findMethodsByName( mappingMethod.getMethodName(), false ) ) {
+                    if ( !methods.contains( method ) ) {
+                        methods.add( method );
+                    }
+                }
+            }
+        }
+        return methods;
+    }
+}
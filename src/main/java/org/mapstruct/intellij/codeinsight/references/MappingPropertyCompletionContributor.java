@@ -0,0 +1,247 @@
+/*
+ *  Copyright 2017 the MapStruct authors (http://www.mapstruct.org/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.intellij.codeinsight.references;
+
+import java.util.stream.Stream;
+
+import com.intellij.codeInsight.completion.CompletionContributor;
+import com.intellij.codeInsight.completion.CompletionParameters;
+import com.intellij.codeInsight.completion.CompletionProvider;
+import com.intellij.codeInsight.completion.CompletionResultSet;
+import com.intellij.codeInsight.completion.CompletionType;
+import com.intellij.codeInsight.completion.PrefixMatcher;
+import com.intellij.codeInsight.lookup.LookupElementBuilder;
+import com.intellij.openapi.progress.ProgressManager;
+import com.intellij.openapi.project.DumbAware;
+import com.intellij.openapi.project.DumbService;
+import com.intellij.psi.PsiAnnotation;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiJavaCodeReferenceElement;
+import com.intellij.psi.PsiLiteralExpression;
+import com.intellij.psi.PsiMethod;
+import com.intellij.psi.PsiModifierListOwner;
+import com.intellij.psi.PsiNameValuePair;
+import com.intellij.psi.PsiParameter;
+import com.intellij.psi.PsiReference;
+import com.intellij.psi.PsiType;
+import com.intellij.psi.PsiTypeElement;
+import com.intellij.psi.util.PsiTreeUtil;
+import com.intellij.util.PlatformIcons;
+import com.intellij.util.ProcessingContext;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
+import org.mapstruct.intellij.util.AccessorNaming;
+import org.mapstruct.intellij.util.MapstructUtil;
+
+import static com.intellij.patterns.PlatformPatterns.psiElement;
+
+/**
+ * Completion for the properties in {@link Mapping#target()} and {@link Mapping#source()}.
+ * <p>
+ * The variants are passed to the completion one by one as they are found, so the completion can be cancelled at any
+ * point and shows the first results as early as possible. The prefix matcher is applied to the property names before
+ * any lookup element is created. While the indexes are being built only the classes from
+ * the current file can be used, so a reduced list with the properties declared directly in those classes (or the
+ * source parameters) is offered.
+ *
+ * @author Filip Hrisafov
+ */
+public class MappingPropertyCompletionContributor extends CompletionContributor implements DumbAware {
+
+    private static final String MAPPING = Mapping.class.getSimpleName();
+    private static final String MAPPING_TARGET = MappingTarget.class.getSimpleName();
+    private static final String CONTEXT = "Context";
+
+    public MappingPropertyCompletionContributor() {
+        extend(
+            CompletionType.BASIC,
+            psiElement().withParent( PsiLiteralExpression.class ),
+            new MappingPropertyCompletionProvider()
+        );
+    }
+
+    private static class MappingPropertyCompletionProvider extends CompletionProvider<CompletionParameters> {
+
+        @Override
+        protected void addCompletions(@NotNull CompletionParameters parameters, ProcessingContext context,
+            @NotNull CompletionResultSet result) {
+            PsiLiteralExpression literal = (PsiLiteralExpression) parameters.getPosition().getParent();
+            if ( !MapstructUtil.isMapStructPresent( literal.getProject() ) ) {
+                return;
+            }
+
+            if ( DumbService.isDumb( literal.getProject() ) ) {
+                addDumbModeCompletions( literal, parameters.getOffset(), result );
+                return;
+            }
+
+            MapstructBaseReference reference = findReference( literal, parameters.getOffset() );
+            if ( reference != null ) {
+                PrefixMatcher prefixMatcher = result.getPrefixMatcher();
+                reference.processVariants( prefixMatcher::prefixMatches, element -> {
+                    ProgressManager.checkCanceled();
+                    result.addElement( element );
+                } );
+            }
+        }
+    }
+
+    @Nullable
+    private static MapstructBaseReference findReference(@NotNull PsiLiteralExpression literal, int offset) {
+        int offsetInElement = offset - literal.getTextRange().getStartOffset();
+        for ( PsiReference reference : literal.getReferences() ) {
+            if ( reference instanceof MapstructBaseReference
+                && reference.getRangeInElement().containsOffset( offsetInElement ) ) {
+                return (MapstructBaseReference) reference;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Add the completions that can be computed without the indexes. Nothing is resolved, the annotations are
+     * recognized by their short name and the classes are looked up by their name within the current file. Only the
+     * first segment of a property path is completed.
+     */
+    private static void addDumbModeCompletions(@NotNull PsiLiteralExpression literal, int offset,
+        @NotNull CompletionResultSet result) {
+        PsiElement parent = literal.getParent();
+        if ( !( parent instanceof PsiNameValuePair ) ) {
+            return;
+        }
+        String attributeName = ( (PsiNameValuePair) parent ).getName();
+        PsiAnnotation annotation = PsiTreeUtil.getParentOfType( parent, PsiAnnotation.class );
+        PsiMethod mappingMethod = PsiTreeUtil.getParentOfType( annotation, PsiMethod.class );
+        if ( mappingMethod == null || !hasShortName( annotation, MAPPING ) ) {
+            return;
+        }
+
+        String textBeforeCaret = literal.getText().substring( 0, offset - literal.getTextRange().getStartOffset() );
+        if ( textBeforeCaret.contains( "." ) ) {
+            return;
+        }
+
+        if ( "target".equals( attributeName ) ) {
+            PsiClass targetClass = findLocalClass( mappingMethod, getTargetTypeElement( mappingMethod ) );
+            if ( targetClass != null ) {
+                addLocalProperties( targetClass, false, result );
+            }
+        }
+        else if ( "source".equals( attributeName ) ) {
+            PsiParameter[] sourceParameters = getLocalSourceParameters( mappingMethod );
+            if ( sourceParameters.length == 1 ) {
+                PsiClass sourceClass = findLocalClass( mappingMethod, sourceParameters[0].getTypeElement() );
+                if ( sourceClass != null ) {
+                    addLocalProperties( sourceClass, true, result );
+                }
+            }
+            else {
+                for ( PsiParameter sourceParameter : sourceParameters ) {
+                    String name = sourceParameter.getName();
+                    if ( name != null && result.getPrefixMatcher().prefixMatches( name ) ) {
+                        result.addElement( MapstructUtil.asLookup( sourceParameter ) );
+                    }
+                }
+            }
+        }
+    }
+
+    private static void addLocalProperties(@NotNull PsiClass psiClass, boolean read,
+        @NotNull CompletionResultSet result) {
+        for ( PsiMethod method : psiClass.getMethods() ) {
+            ProgressManager.checkCanceled();
+            if ( !MapstructUtil.isPublic( method ) ) {
+                continue;
+            }
+            PsiType type;
+            if ( read && AccessorNaming.DEFAULT.isGetter( method ) ) {
+                type = method.getReturnType();
+            }
+            else if ( !read && AccessorNaming.DEFAULT.isSetter( method ) ) {
+                type = method.getParameterList().getParameters()[0].getType();
+            }
+            else {
+                continue;
+            }
+
+            String propertyName = AccessorNaming.DEFAULT.getPropertyName( method );
+            if ( !propertyName.isEmpty() && result.getPrefixMatcher().prefixMatches( propertyName ) ) {
+                result.addElement( LookupElementBuilder.create( method, propertyName )
+                    .withIcon( PlatformIcons.VARIABLE_ICON )
+                    .withTypeText( type == null ? null : type.getPresentableText() ) );
+            }
+        }
+    }
+
+    @Nullable
+    private static PsiTypeElement getTargetTypeElement(@NotNull PsiMethod mappingMethod) {
+        for ( PsiParameter parameter : mappingMethod.getParameterList().getParameters() ) {
+            if ( hasShortName( parameter, MAPPING_TARGET ) ) {
+                return parameter.getTypeElement();
+            }
+        }
+        return PsiType.VOID.equals( mappingMethod.getReturnType() ) ? null : mappingMethod.getReturnTypeElement();
+    }
+
+    @NotNull
+    private static PsiParameter[] getLocalSourceParameters(@NotNull PsiMethod mappingMethod) {
+        return Stream.of( mappingMethod.getParameterList().getParameters() )
+            .filter( parameter -> !hasShortName( parameter, MAPPING_TARGET ) && !hasShortName( parameter, CONTEXT ) )
+            .toArray( PsiParameter[]::new );
+    }
+
+    /**
+     * Find the class with the name of the {@code typeElement} within the file of the {@code context}.
+     */
+    @Nullable
+    private static PsiClass findLocalClass(@NotNull PsiElement context, @Nullable PsiTypeElement typeElement) {
+        PsiJavaCodeReferenceElement reference = typeElement == null ? null :
+            typeElement.getInnermostComponentReferenceElement();
+        String className = reference == null ? null : reference.getReferenceName();
+        if ( className == null ) {
+            return null;
+        }
+        for ( PsiClass psiClass : PsiTreeUtil.findChildrenOfType( context.getContainingFile(), PsiClass.class ) ) {
+            if ( className.equals( psiClass.getName() ) ) {
+                return psiClass;
+            }
+        }
+        return null;
+    }
+
+    private static boolean hasShortName(@Nullable PsiAnnotation annotation, @NotNull String shortName) {
+        PsiJavaCodeReferenceElement reference = annotation == null ? null : annotation.getNameReferenceElement();
+        return reference != null && shortName.equals( reference.getReferenceName() );
+    }
+
+    private static boolean hasShortName(@NotNull PsiModifierListOwner owner, @NotNull String shortName) {
+        if ( owner.getModifierList() == null ) {
+            return false;
+        }
+        for ( PsiAnnotation annotation : owner.getModifierList().getAnnotations() ) {
+            if ( hasShortName( annotation, shortName ) ) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -27,6 +27,8 @@
 import com.intellij.util.ProcessingContext;
 import org.jetbrains.annotations.NotNull;
 
+import static org.mapstruct.intellij.util.MapstructUtil.isMapStructPresent;
+
 /**
  * {@link PsiReferenceProvider} for references in target / source properties of {@link org.mapstruct.Mapping}.
  *
@@ -46,6 +48,9 @@ class MappingTargetReferenceProvider extends PsiReferenceProvider {
     @NotNull
     @Override
     public PsiReference[] getReferencesByElement(@NotNull PsiElement element, @NotNull ProcessingContext context) {
+        if ( !isMapStructPresent( element.getProject() ) ) {
+            return PsiReference.EMPTY_ARRAY;
+        }
         return reference.apply( (PsiLiteral) element );
     }
 }
@@ -18,7 +18,13 @@
  */
 package org.mapstruct.intellij.codeinsight.references;
 
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
 import com.intellij.codeInsight.lookup.LookupElement;
+import com.intellij.openapi.util.Key;
 import com.intellij.openapi.util.TextRange;
 import com.intellij.psi.ElementManipulator;
 import com.intellij.psi.ElementManipulators;
@@ -28,11 +34,16 @@
 import com.intellij.psi.PsiMethod;
 import com.intellij.psi.PsiReference;
 import com.intellij.psi.PsiType;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.PsiModificationTracker;
 import com.intellij.psi.util.PsiUtil;
 import com.intellij.util.IncorrectOperationException;
+import com.intellij.util.containers.ContainerUtil;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
-import org.mapstruct.intellij.util.MapstructUtil;
+import org.mapstruct.intellij.util.AccessorNaming;
 
 import static org.mapstruct.intellij.util.MapstructUtil.canDescendIntoType;
 
@@ -43,6 +54,9 @@
  */
 abstract class MapstructBaseReference extends BaseReference {
 
+    private static final Key<CachedValue<Map<Integer, Optional<PsiElement>>>> RESOLVED_SEGMENTS = Key.create(
+        "MapStruct.ResolvedSegments" );
+
     private final MapstructBaseReference previous;
 
     /**
@@ -58,17 +72,42 @@ abstract class MapstructBaseReference extends BaseReference {
         this.previous = previous;
     }
 
+    /**
+     * Resolve the reference. The result is cached per segment of the literal, so resolving the last segment of a
+     * nested property resolves each of the previous segments only once, and further calls (from highlighting,
+     * completion, inspections) reuse the result until the PSI is modified.
+     *
+     * @return the resolved element
+     */
     @Nullable
     @Override
     public final PsiElement resolve() {
+        if ( !getElement().isPhysical() ) {
+            // Changes in non physical PSI (e.g. the completion copy) do not increment the modification count
+            return resolveSegment();
+        }
+
+        Map<Integer, Optional<PsiElement>> resolvedSegments = getResolvedSegments( getElement() );
+        Integer segmentKey = getRangeInElement().getStartOffset();
+        Optional<PsiElement> resolved = resolvedSegments.get( segmentKey );
+        if ( resolved == null ) {
+            // The previous segments are resolved (and cached) before this one is put in the map
+            resolved = Optional.ofNullable( resolveSegment() );
+            resolvedSegments.put( segmentKey, resolved );
+        }
+        return resolved.orElse( null );
+    }
+
+    @Nullable
+    private PsiElement resolveSegment() {
         String value = getValue();
         if ( value.isEmpty() ) {
             return null;
         }
 
         if ( previous != null ) {
-            PsiClass psiClass = canDescendIntoType( previous.resolvedType() ) ?
-                PsiUtil.resolveClassInType( previous.resolvedType() ) : null;
+            PsiType previousType = previous.resolvedType();
+            PsiClass psiClass = canDescendIntoType( previousType ) ? PsiUtil.resolveClassInType( previousType ) : null;
             return psiClass == null ? null : resolveInternal( value, psiClass );
         }
 
@@ -77,6 +116,19 @@ public final PsiElement resolve() {
         return mappingMethod == null ? null : resolveInternal( value, mappingMethod );
     }
 
+    /**
+     * @param psiLiteral the literal that holds the references
+     *
+     * @return the resolved elements of the segments of the {@code psiLiteral} keyed by the start offset of the
+     * segment, cached until the next PSI modification
+     */
+    private static Map<Integer, Optional<PsiElement>> getResolvedSegments(@NotNull PsiLiteral psiLiteral) {
+        return CachedValuesManager.getCachedValue( psiLiteral, RESOLVED_SEGMENTS, () -> {
+            Map<Integer, Optional<PsiElement>> resolvedSegments = ContainerUtil.newConcurrentMap();
+            return CachedValueProvider.Result.create( resolvedSegments, PsiModificationTracker.MODIFICATION_COUNT );
+        } );
+    }
+
     /**
      * Resolved the reference from the {@code value} for the reference {@code psiClass}
      *
@@ -99,38 +151,61 @@ public final PsiElement resolve() {
     @Nullable
     abstract PsiElement resolveInternal(@NotNull String value, @NotNull PsiMethod mappingMethod);
 
+    /**
+     * The variants are not materialized here, they are streamed into the completion by the
+     * {@link MappingPropertyCompletionContributor}.
+     *
+     * @return an empty array
+     */
     @NotNull
     @Override
     public final Object[] getVariants() {
+        return LookupElement.EMPTY_ARRAY;
+    }
+
+    /**
+     * Pass all the variants for this reference to the {@code consumer}, one by one as they are found. The direct
+     * properties of a class come before the inherited ones. The lookup elements are only created for the names
+     * accepted by the {@code nameFilter}.
+     *
+     * @param nameFilter the filter for the names of the variants (usually the prefix matcher of the completion)
+     * @param consumer the consumer of the variants
+     */
+    final void processVariants(@NotNull Predicate<String> nameFilter, @NotNull Consumer<LookupElement> consumer) {
         if ( previous != null ) {
             PsiType resolvedType = previous.resolvedType();
             PsiClass psiClass = canDescendIntoType( resolvedType ) ? PsiUtil.resolveClassInType( resolvedType ) : null;
-            return psiClass == null ? LookupElement.EMPTY_ARRAY : getVariantsInternal( psiClass );
+            if ( psiClass != null ) {
+                processVariantsInternal( psiClass, nameFilter, consumer );
+            }
+            return;
         }
 
         PsiMethod mappingMethod = getMappingMethod();
-        return mappingMethod == null ? LookupElement.EMPTY_ARRAY : getVariantsInternal( mappingMethod );
+        if ( mappingMethod != null ) {
+            processVariantsInternal( mappingMethod, nameFilter, consumer );
+        }
     }
 
     /**
-     * Find all the variants for the given {@code psiClass}.
-     *
-     * @param psiClass the class for which variants need to be returned
+     * Pass all the variants for the given {@code psiClass} to the {@code consumer}.
      *
-     * @return all the variants for the provided {@code psiClass}
+     * @param psiClass the class for which variants need to be found
+     * @param nameFilter the filter for the names of the variants
+     * @param consumer the consumer of the variants
      */
-    @NotNull
-    abstract Object[] getVariantsInternal(@NotNull PsiClass psiClass);
+    abstract void processVariantsInternal(@NotNull PsiClass psiClass, @NotNull Predicate<String> nameFilter,
+        @NotNull Consumer<LookupElement> consumer);
 
     /**
-     * Find all the variants for the given {@code mappingMethod}.
-     *
-     * @param mappingMethod the mapping method for which variants need to be returned
+     * Pass all the variants for the given {@code mappingMethod} to the {@code consumer}.
      *
-     * @return all the variants for the provided {@code mappingMethod}
+     * @param mappingMethod the mapping method for which variants need to be found
+     * @param nameFilter the filter for the names of the variants
+     * @param consumer the consumer of the variants
      */
-    @NotNull
-    abstract Object[] getVariantsInternal(@NotNull PsiMethod mappingMethod);
+    abstract void processVariantsInternal(@NotNull PsiMethod mappingMethod, @NotNull Predicate<String> nameFilter,
+        @NotNull Consumer<LookupElement> consumer);
 
     /**
      * Should return the type that can be used for continuing the auto-completion. For example for source it is the
@@ -145,7 +220,7 @@ public final Object[] getVariants() {
     public PsiElement handleElementRename(String newElementName) throws IncorrectOperationException {
         PsiElement reference = resolve();
         if ( reference instanceof PsiMethod ) {
-            return super.handleElementRename( MapstructUtil.getPropertyName( newElementName ) );
+            return super.handleElementRename( AccessorNaming.of( getElement() ).getPropertyName( newElementName ) );
         }
         else {
             return super.handleElementRename( newElementName );
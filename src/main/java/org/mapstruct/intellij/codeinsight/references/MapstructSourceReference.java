@@ -19,6 +19,8 @@
 package org.mapstruct.intellij.codeinsight.references;
 
 import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 import com.intellij.codeInsight.lookup.LookupElement;
@@ -30,12 +32,13 @@
 import com.intellij.psi.PsiParameter;
 import com.intellij.psi.PsiReference;
 import com.intellij.psi.PsiType;
+import com.intellij.psi.PsiVariable;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.mapstruct.intellij.util.MapstructUtil;
+import org.mapstruct.intellij.util.PropertyModel;
 
 import static org.mapstruct.intellij.util.SourceUtils.getParameterClass;
-import static org.mapstruct.intellij.util.SourceUtils.publicGetters;
 
 /**
  * Reference for {@link org.mapstruct.Mapping#source()}.
@@ -58,12 +61,8 @@ private MapstructSourceReference(PsiLiteral element, MapstructSourceReference pr
 
     @Override
     PsiElement resolveInternal(@NotNull String value, @NotNull PsiClass psiClass) {
-        PsiMethod[] methods = psiClass.findMethodsByName( "get" + MapstructUtil.capitalize( value ), true );
-
-        if ( methods.length == 0 ) {
-            methods = psiClass.findMethodsByName( "is" + MapstructUtil.capitalize( value ), true );
-        }
-        return methods.length == 0 ? null : methods[0];
+        PropertyModel.Property property = PropertyModel.getInstance( psiClass, getElement() ).findReadProperty( value );
+        return property == null ? null : property.getElement();
     }
 
     @Override
@@ -88,24 +87,35 @@ PsiElement resolveInternal(@NotNull String value, @NotNull PsiMethod mappingMeth
             .orElse( null );
     }
 
-    @NotNull
     @Override
-    Object[] getVariantsInternal(@NotNull PsiClass psiClass) {
-        return publicGetters( psiClass )
-            .map( pair -> MapstructUtil.asLookup( pair, PsiMethod::getReturnType ) )
-            .toArray();
+    void processVariantsInternal(@NotNull PsiClass psiClass, @NotNull Predicate<String> nameFilter,
+        @NotNull Consumer<LookupElement> consumer) {
+        for ( PropertyModel.Property property : PropertyModel.getInstance( psiClass, getElement() )
+            .getReadProperties() ) {
+            if ( nameFilter.test( property.getName() ) ) {
+                consumer.accept( MapstructUtil.asLookup( property ) );
+            }
+        }
     }
 
-    @NotNull
     @Override
-    Object[] getVariantsInternal(@NotNull PsiMethod mappingMethod) {
+    void processVariantsInternal(@NotNull PsiMethod mappingMethod, @NotNull Predicate<String> nameFilter,
+        @NotNull Consumer<LookupElement> consumer) {
         PsiParameter[] sourceParameters = MapstructUtil.getSourceParameters( mappingMethod );
         if ( sourceParameters.length == 1 ) {
             PsiClass parameterClass = getParameterClass( sourceParameters[0] );
-            return parameterClass == null ? LookupElement.EMPTY_ARRAY : getVariantsInternal( parameterClass );
+            if ( parameterClass != null ) {
+                processVariantsInternal( parameterClass, nameFilter, consumer );
+            }
+            return;
         }
 
-        return sourceParameters;
+        for ( PsiParameter sourceParameter : sourceParameters ) {
+            String name = sourceParameter.getName();
+            if ( name != null && nameFilter.test( name ) ) {
+                consumer.accept( MapstructUtil.asLookup( sourceParameter ) );
+            }
+        }
     }
 
     @Nullable
@@ -115,8 +125,8 @@ PsiType resolvedType() {
         if ( element instanceof PsiMethod ) {
             return ( (PsiMethod) element ).getReturnType();
         }
-        else if ( element instanceof PsiParameter ) {
-            return ( (PsiParameter) element ).getType();
+        else if ( element instanceof PsiVariable ) {
+            return ( (PsiVariable) element ).getType();
         }
 
         return null;
@@ -19,6 +19,8 @@
 package org.mapstruct.intellij.codeinsight.references;
 
 import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 import com.intellij.codeInsight.lookup.LookupElement;
@@ -27,15 +29,15 @@
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiLiteral;
 import com.intellij.psi.PsiMethod;
-import com.intellij.psi.PsiParameter;
 import com.intellij.psi.PsiReference;
 import com.intellij.psi.PsiType;
+import com.intellij.psi.PsiVariable;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.mapstruct.intellij.util.MapstructUtil;
+import org.mapstruct.intellij.util.PropertyModel;
 
 import static org.mapstruct.intellij.util.TargetUtils.getRelevantClass;
-import static org.mapstruct.intellij.util.TargetUtils.publicSetters;
 
 /**
  * Reference for {@link org.mapstruct.Mapping#target()}.
@@ -58,8 +60,9 @@ private MapstructTargetReference(PsiLiteral element, MapstructTargetReference pr
 
     @Override
     PsiElement resolveInternal(@NotNull String value, @NotNull PsiClass psiClass) {
-        PsiMethod[] methods = psiClass.findMethodsByName( "set" + MapstructUtil.capitalize( value ), true );
-        return methods.length == 0 ? null : methods[0];
+        PropertyModel.Property property = PropertyModel.getInstance( psiClass, getElement() )
+            .findWriteProperty( value );
+        return property == null ? null : property.getElement();
     }
 
     @Override
@@ -81,22 +84,24 @@ PsiElement resolveInternal(@NotNull String value, @NotNull PsiMethod mappingMeth
             .orElse( null );
     }
 
-    @NotNull
     @Override
-    Object[] getVariantsInternal(@NotNull PsiClass psiClass) {
-        return publicSetters( psiClass )
-            .map( pair -> MapstructUtil.asLookup(
-                pair,
-                MapstructTargetReference::firstParameterPsiType
-            ) )
-            .toArray();
+    void processVariantsInternal(@NotNull PsiClass psiClass, @NotNull Predicate<String> nameFilter,
+        @NotNull Consumer<LookupElement> consumer) {
+        for ( PropertyModel.Property property : PropertyModel.getInstance( psiClass, getElement() )
+            .getWriteProperties() ) {
+            if ( nameFilter.test( property.getName() ) ) {
+                consumer.accept( MapstructUtil.asLookup( property ) );
+            }
+        }
     }
 
-    @NotNull
     @Override
-    Object[] getVariantsInternal(@NotNull PsiMethod mappingMethod) {
+    void processVariantsInternal(@NotNull PsiMethod mappingMethod, @NotNull Predicate<String> nameFilter,
+        @NotNull Consumer<LookupElement> consumer) {
         PsiClass targetClass = getRelevantClass( mappingMethod );
-        return targetClass == null ? LookupElement.EMPTY_ARRAY : getVariantsInternal( targetClass );
+        if ( targetClass != null ) {
+            processVariantsInternal( targetClass, nameFilter, consumer );
+        }
     }
 
     @Nullable
@@ -107,8 +112,8 @@ PsiType resolvedType() {
         if ( element instanceof PsiMethod ) {
             return firstParameterPsiType( (PsiMethod) element );
         }
-        else if ( element instanceof PsiParameter ) {
-            return ( (PsiParameter) element ).getType();
+        else if ( element instanceof PsiVariable ) {
+            return ( (PsiVariable) element ).getType();
         }
         return null;
     }
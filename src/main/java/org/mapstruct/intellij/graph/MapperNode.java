@@ -0,0 +1,81 @@
+/*
+ *  Copyright 2017 the MapStruct authors (http://www.mapstruct.org/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.intellij.graph;
+
+import java.util.List;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A mapper or a mapper config within the {@link MappingGraph}.
+ *
+ * @author Filip Hrisafov
+ */
+public final class MapperNode {
+
+    private final String qualifiedName;
+    private final boolean config;
+    private final List<String> uses;
+    private final List<MappingEdge> mappingMethods;
+
+    MapperNode(@NotNull String qualifiedName, boolean config, @NotNull List<String> uses,
+        @NotNull List<MappingEdge> mappingMethods) {
+        this.qualifiedName = qualifiedName;
+        this.config = config;
+        this.uses = uses;
+        this.mappingMethods = mappingMethods;
+    }
+
+    /**
+     * @return the fully qualified name of the mapper
+     */
+    @NotNull
+    public String getQualifiedName() {
+        return qualifiedName;
+    }
+
+    /**
+     * @return {@code true} if this is a {@link org.mapstruct.MapperConfig}, {@code false} if it is a
+     * {@link org.mapstruct.Mapper}
+     */
+    public boolean isConfig() {
+        return config;
+    }
+
+    /**
+     * @return the fully qualified names of the classes defined in {@link org.mapstruct.Mapper#uses()}
+     */
+    @NotNull
+    public List<String> getUses() {
+        return uses;
+    }
+
+    /**
+     * @return the mapping methods declared in the mapper
+     */
+    @NotNull
+    public List<MappingEdge> getMappingMethods() {
+        return mappingMethods;
+    }
+
+    @Override
+    public String toString() {
+        return qualifiedName;
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ *  Copyright 2017 the MapStruct authors (http://www.mapstruct.org/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.intellij.graph;
+
+import java.util.List;
+import java.util.Objects;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A mapping method within the {@link MappingGraph}. It connects the source types of the method with its target type.
+ * The types are represented by their erased canonical text, i.e. the fully qualified name for resolved classes.
+ *
+ * @author Filip Hrisafov
+ */
+public final class MappingEdge {
+
+    private final String mapper;
+    private final String methodName;
+    private final List<String> sourceTypes;
+    private final String targetType;
+
+    MappingEdge(@NotNull String mapper, @NotNull String methodName, @NotNull List<String> sourceTypes,
+        @NotNull String targetType) {
+        this.mapper = mapper;
+        this.methodName = methodName;
+        this.sourceTypes = sourceTypes;
+        this.targetType = targetType;
+    }
+
+    /**
+     * @return the fully qualified name of the mapper that declares the mapping method
+     */
+    @NotNull
+    public String getMapper() {
+        return mapper;
+    }
+
+    /**
+     * @return the name of the mapping method
+     */
+    @NotNull
+    public String getMethodName() {
+        return methodName;
+    }
+
+    /**
+     * @return the source types of the mapping method
+     */
+    @NotNull
+    public List<String> getSourceTypes() {
+        return sourceTypes;
+    }
+
+    /**
+     * @return the target type of the mapping method, this is either the return type or the type of the
+     * {@link org.mapstruct.MappingTarget} parameter
+     */
+    @NotNull
+    public String getTargetType() {
+        return targetType;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if ( this == o ) {
+            return true;
+        }
+        if ( o == null || getClass() != o.getClass() ) {
+            return false;
+        }
+        MappingEdge that = (MappingEdge) o;
+        return Objects.equals( mapper, that.mapper )
+            && Objects.equals( methodName, that.methodName )
+            && Objects.equals( sourceTypes, that.sourceTypes )
+            && Objects.equals( targetType, that.targetType );
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash( mapper, methodName, sourceTypes, targetType );
+    }
+
+    @Override
+    public String toString() {
+        return mapper + "#" + methodName + sourceTypes + " -> " + targetType;
+    }
+}
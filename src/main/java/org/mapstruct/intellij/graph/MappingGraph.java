@@ -0,0 +1,519 @@
+/*
+ *  Copyright 2017 the MapStruct authors (http://www.mapstruct.org/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.intellij.graph;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.intellij.ide.highlighter.JavaFileType;
+import com.intellij.openapi.components.ServiceManager;
+import com.intellij.openapi.project.DumbService;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.roots.ModuleRootEvent;
+import com.intellij.openapi.roots.ModuleRootListener;
+import com.intellij.openapi.util.Pair;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.openapi.vfs.VirtualFileManager;
+import com.intellij.openapi.vfs.newvfs.BulkFileListener;
+import com.intellij.openapi.vfs.newvfs.events.VFileEvent;
+import com.intellij.psi.JavaPsiFacade;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiManager;
+import com.intellij.psi.PsiTreeChangeAdapter;
+import com.intellij.psi.PsiTreeChangeEvent;
+import com.intellij.psi.PsiType;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.util.TypeConversionUtil;
+import com.intellij.util.containers.ContainerUtil;
+import com.intellij.util.messages.MessageBusConnection;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.mapstruct.intellij.index.MapperIndex;
+import org.mapstruct.intellij.index.MapperInfo;
+import org.mapstruct.intellij.index.MappingMethodInfo;
+
+import static com.intellij.ProjectTopics.PROJECT_ROOTS;
+
+/**
+ * A project wide graph of all the mappers in the project sources. The nodes are the mappers (and mapper configs),
+ * they are connected with the mappers they use via {@link org.mapstruct.Mapper#uses()}, and their mapping methods
+ * are the edges between the source and the target types.
+ * <p>
+ * The graph is built lazily from the {@link MapperIndex}, without loading the PSI of the mappers. The type texts
+ * stored in the index are resolved with the imports of the mapper file against the class stubs. Changes only mark
+ * the changed files, and when the graph is queried the next time only the mappers of those files are read from the
+ * index again. All the queries are answered from hash based lookups and need to be performed within a read action.
+ *
+ * @author Filip Hrisafov
+ */
+public class MappingGraph {
+
+    private final Project project;
+    private final Set<VirtualFile> changedFiles = ContainerUtil.newConcurrentSet();
+    private final Map<VirtualFile, List<MapperNode>> mappersByFile = new HashMap<>();
+    private volatile boolean built;
+    private volatile boolean outdated = true;
+    private volatile Snapshot snapshot = new Snapshot( Collections.emptyList() );
+
+    public MappingGraph(@NotNull Project project) {
+        this.project = project;
+        PsiManager.getInstance( project ).addPsiTreeChangeListener( new MapperChangeListener(), project );
+        MessageBusConnection connection = project.getMessageBus().connect( project );
+        connection.subscribe( VirtualFileManager.VFS_CHANGES, new BulkFileListener.Adapter() {
+            @Override
+            public void after(@NotNull List<? extends VFileEvent> events) {
+                for ( VFileEvent event : events ) {
+                    fileChanged( event.getFile() );
+                }
+            }
+        } );
+        connection.subscribe( PROJECT_ROOTS, new ModuleRootListener() {
+            @Override
+            public void beforeRootsChange(ModuleRootEvent event) {
+                // nothing to do
+            }
+
+            @Override
+            public void rootsChanged(ModuleRootEvent event) {
+                outdated = true;
+            }
+        } );
+    }
+
+    @NotNull
+    public static MappingGraph getInstance(@NotNull Project project) {
+        return ServiceManager.getService( project, MappingGraph.class );
+    }
+
+    /**
+     * @return all the mappers and mapper configs in the project
+     */
+    @NotNull
+    public Collection<MapperNode> getMappers() {
+        return getSnapshot().mappers.values();
+    }
+
+    /**
+     * @param qualifiedName the fully qualified name of the mapper
+     *
+     * @return the mapper with the given name, or {@code null} if there is no such mapper
+     */
+    @Nullable
+    public MapperNode findMapper(@NotNull String qualifiedName) {
+        return getSnapshot().mappers.get( qualifiedName );
+    }
+
+    /**
+     * @param sourceType the name of the source type, see {@link #getTypeName(PsiType)}
+     * @param targetType the name of the target type, see {@link #getTypeName(PsiType)}
+     *
+     * @return all the mapping methods that map the {@code sourceType} into the {@code targetType}
+     */
+    @NotNull
+    public List<MappingEdge> findMappings(@NotNull String sourceType, @NotNull String targetType) {
+        return getSnapshot().bySourceAndTarget.getOrDefault( Pair.create( sourceType, targetType ),
+            Collections.emptyList() );
+    }
+
+    /**
+     * @param sourceType the name of the source type, see {@link #getTypeName(PsiType)}
+     *
+     * @return all the mapping methods that have {@code sourceType} as one of their sources
+     */
+    @NotNull
+    public List<MappingEdge> findMappingsFrom(@NotNull String sourceType) {
+        return getSnapshot().bySource.getOrDefault( sourceType, Collections.emptyList() );
+    }
+
+    /**
+     * @param targetType the name of the target type, see {@link #getTypeName(PsiType)}
+     *
+     * @return all the mapping methods that produce the {@code targetType}
+     */
+    @NotNull
+    public List<MappingEdge> findMappingsTo(@NotNull String targetType) {
+        return getSnapshot().byTarget.getOrDefault( targetType, Collections.emptyList() );
+    }
+
+    /**
+     * @param mapper the fully qualified name of a mapper (or any other class)
+     *
+     * @return the names of all the mappers that have the {@code mapper} in their {@link org.mapstruct.Mapper#uses()}
+     */
+    @NotNull
+    public List<String> findMappersUsing(@NotNull String mapper) {
+        return getSnapshot().usedBy.getOrDefault( mapper, Collections.emptyList() );
+    }
+
+    /**
+     * Find all the cycles between mappers that are created by {@link org.mapstruct.Mapper#uses()}. Each cycle is
+     * represented by the names of the mappers within a strongly connected component of the uses graph.
+     *
+     * @return all the cycles between the mappers
+     */
+    @NotNull
+    public List<Set<String>> findUsesCycles() {
+        return new CycleFinder( getSnapshot().mappers ).find();
+    }
+
+    /**
+     * The name under which the {@code type} is stored in the graph. This is the canonical text of the erasure of the
+     * type, i.e. the fully qualified name for classes.
+     *
+     * @param type the type
+     *
+     * @return the name of the type in the graph
+     */
+    @NotNull
+    public static String getTypeName(@NotNull PsiType type) {
+        return TypeConversionUtil.erasure( type ).getCanonicalText();
+    }
+
+    @NotNull
+    private Snapshot getSnapshot() {
+        if ( ( !outdated && changedFiles.isEmpty() ) || DumbService.isDumb( project ) ) {
+            return snapshot;
+        }
+
+        synchronized ( mappersByFile ) {
+            if ( outdated ) {
+                outdated = false;
+                changedFiles.clear();
+                mappersByFile.clear();
+                MapperIndex.processAllMappers( project, GlobalSearchScope.projectScope( project ), this::addMapper );
+                built = true;
+            }
+            else if ( !changedFiles.isEmpty() ) {
+                List<VirtualFile> files = new ArrayList<>( changedFiles );
+                changedFiles.removeAll( files );
+                mappersByFile.keySet().removeAll( files );
+                GlobalSearchScope scope = GlobalSearchScope.filesScope( project, files );
+                MapperIndex.processAllMappers( project, scope, this::addMapper );
+            }
+            else {
+                return snapshot;
+            }
+
+            snapshot = new Snapshot( mappersByFile.values() );
+            return snapshot;
+        }
+    }
+
+    private boolean addMapper(@NotNull VirtualFile file, @NotNull MapperInfo mapperInfo) {
+        if ( mapperInfo.getKind() != MapperInfo.Kind.OTHER ) {
+            mappersByFile.computeIfAbsent( file, key -> new ArrayList<>() ).add( createNode( mapperInfo ) );
+        }
+        return true;
+    }
+
+    @NotNull
+    private MapperNode createNode(@NotNull MapperInfo mapperInfo) {
+        TypeResolver resolver = new TypeResolver( project, mapperInfo );
+        List<String> uses = new ArrayList<>( mapperInfo.getUses().size() );
+        for ( String used : mapperInfo.getUses() ) {
+            uses.add( resolver.resolve( used ) );
+        }
+
+        List<MappingEdge> mappingMethods = new ArrayList<>();
+        for ( MappingMethodInfo method : mapperInfo.getMappingMethods() ) {
+            if ( method.getTargetType() != null && !method.getSourceTypes().isEmpty() ) {
+                List<String> sourceTypes = new ArrayList<>( method.getSourceTypes().size() );
+                for ( String sourceType : method.getSourceTypes() ) {
+                    sourceTypes.add( resolver.resolve( sourceType ) );
+                }
+                mappingMethods.add( new MappingEdge(
+                    mapperInfo.getQualifiedName(),
+                    method.getName(),
+                    sourceTypes,
+                    resolver.resolve( method.getTargetType() )
+                ) );
+            }
+        }
+
+        return new MapperNode(
+            mapperInfo.getQualifiedName(),
+            mapperInfo.getKind() == MapperInfo.Kind.MAPPER_CONFIG,
+            uses,
+            mappingMethods
+        );
+    }
+
+    private void fileChanged(@Nullable VirtualFile file) {
+        if ( built && file != null && !file.isDirectory() && file.getFileType() == JavaFileType.INSTANCE ) {
+            changedFiles.add( file );
+        }
+    }
+    /**
+     * An immutable view of the graph with all the lookup tables needed for the queries.
+     */
+    private static final class Snapshot {
+
+        private final Map<String, MapperNode> mappers = new HashMap<>();
+        private final Map<String, List<MappingEdge>> bySource = new HashMap<>();
+        private final Map<String, List<MappingEdge>> byTarget = new HashMap<>();
+        private final Map<Pair<String, String>, List<MappingEdge>> bySourceAndTarget = new HashMap<>();
+        private final Map<String, List<String>> usedBy = new HashMap<>();
+
+        private Snapshot(@NotNull Collection<List<MapperNode>> mappersPerFile) {
+            for ( List<MapperNode> fileMappers : mappersPerFile ) {
+                for ( MapperNode mapper : fileMappers ) {
+                    mappers.put( mapper.getQualifiedName(), mapper );
+                    for ( String used : mapper.getUses() ) {
+                        usedBy.computeIfAbsent( used, key -> new ArrayList<>() ).add( mapper.getQualifiedName() );
+                    }
+                    for ( MappingEdge edge : mapper.getMappingMethods() ) {
+                        byTarget.computeIfAbsent( edge.getTargetType(), key -> new ArrayList<>() ).add( edge );
+                        for ( String sourceType : new HashSet<>( edge.getSourceTypes() ) ) {
+                            bySource.computeIfAbsent( sourceType, key -> new ArrayList<>() ).add( edge );
+                            bySourceAndTarget.computeIfAbsent(
+                                Pair.create( sourceType, edge.getTargetType() ),
+                                key -> new ArrayList<>()
+                            ).add( edge );
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Finds the strongly connected components of the uses graph with Tarjan's algorithm.
+     */
+    private static final class CycleFinder {
+
+        private final Map<String, MapperNode> mappers;
+        private final Map<String, Integer> indices = new HashMap<>();
+        private final Map<String, Integer> lowLinks = new HashMap<>();
+        private final Deque<String> stack = new ArrayDeque<>();
+        private final Set<String> onStack = new HashSet<>();
+        private final List<Set<String>> cycles = new ArrayList<>();
+
+        private CycleFinder(@NotNull Map<String, MapperNode> mappers) {
+            this.mappers = mappers;
+        }
+
+        @NotNull
+        private List<Set<String>> find() {
+            for ( String mapper : mappers.keySet() ) {
+                if ( !indices.containsKey( mapper ) ) {
+                    visit( mapper );
+                }
+            }
+            return cycles;
+        }
+
+        private void visit(@NotNull String mapper) {
+            int index = indices.size();
+            indices.put( mapper, index );
+            lowLinks.put( mapper, index );
+            stack.push( mapper );
+            onStack.add( mapper );
+
+            boolean selfUse = false;
+            for ( String used : mappers.get( mapper ).getUses() ) {
+                if ( !mappers.containsKey( used ) ) {
+                    continue;
+                }
+                selfUse |= used.equals( mapper );
+                if ( !indices.containsKey( used ) ) {
+                    visit( used );
+                    lowLinks.put( mapper, Math.min( lowLinks.get( mapper ), lowLinks.get( used ) ) );
+                }
+                else if ( onStack.contains( used ) ) {
+                    lowLinks.put( mapper, Math.min( lowLinks.get( mapper ), indices.get( used ) ) );
+                }
+            }
+
+            if ( lowLinks.get( mapper ) == index ) {
+                Set<String> component = new HashSet<>();
+                String member;
+                do {
+                    member = stack.pop();
+                    onStack.remove( member );
+                    component.add( member );
+                }
+                while ( !member.equals( mapper ) );
+
+                if ( component.size() > 1 || selfUse ) {
+                    cycles.add( component );
+                }
+            }
+        }
+    }
+
+    /**
+     * Resolves the type texts of a mapper, as stored in the {@link MapperIndex}, into the names used in the graph.
+     * The resolution follows the Java scoping rules: single type imports, the enclosing classes, the package, the on
+     * demand imports and {@code java.lang}. The candidates are checked with the class stubs, so the PSI of the mapper
+     * is not needed. Texts that cannot be resolved (e.g. type variables) are used as they are.
+     */
+    private static final class TypeResolver {
+
+        private static final String JAVA_LANG_PREFIX = "java.lang.";
+
+        private final JavaPsiFacade facade;
+        private final GlobalSearchScope scope;
+        private final MapperInfo mapperInfo;
+        private final Map<String, String> resolved = new HashMap<>();
+
+        private TypeResolver(@NotNull Project project, @NotNull MapperInfo mapperInfo) {
+            this.facade = JavaPsiFacade.getInstance( project );
+            this.scope = GlobalSearchScope.allScope( project );
+            this.mapperInfo = mapperInfo;
+        }
+
+        @NotNull
+        private String resolve(@NotNull String typeText) {
+            String erased = erase( typeText );
+            int arrayStart = erased.indexOf( '[' );
+            String name = arrayStart < 0 ? erased : erased.substring( 0, arrayStart );
+            String dimensions = arrayStart < 0 ? "" : erased.substring( arrayStart );
+            return resolved.computeIfAbsent( name, this::resolveClassName ) + dimensions;
+        }
+
+        @NotNull
+        private String resolveClassName(@NotNull String name) {
+            if ( TypeConversionUtil.isPrimitive( name ) ) {
+                return name;
+            }
+
+            int firstDot = name.indexOf( '.' );
+            String firstName = firstDot < 0 ? name : name.substring( 0, firstDot );
+            String rest = firstDot < 0 ? "" : name.substring( firstDot );
+            for ( String importText : mapperInfo.getImports() ) {
+                if ( !importText.endsWith( ".*" )
+                    && ( importText.equals( firstName ) || importText.endsWith( "." + firstName ) ) ) {
+                    return importText + rest;
+                }
+            }
+
+            for ( String prefix : getCandidatePrefixes() ) {
+                String candidate = prefix + name;
+                if ( facade.findClass( candidate, scope ) != null ) {
+                    return candidate;
+                }
+            }
+            return name;
+        }
+
+        @NotNull
+        private List<String> getCandidatePrefixes() {
+            List<String> prefixes = new ArrayList<>();
+            String packageName = mapperInfo.getPackageName();
+            String enclosingClass = mapperInfo.getQualifiedName();
+            while ( enclosingClass.length() > packageName.length() ) {
+                prefixes.add( enclosingClass + "." );
+                int lastDot = enclosingClass.lastIndexOf( '.' );
+                if ( lastDot < packageName.length() ) {
+                    break;
+                }
+                enclosingClass = enclosingClass.substring( 0, lastDot );
+            }
+
+            prefixes.add( packageName.isEmpty() ? "" : packageName + "." );
+            for ( String importText : mapperInfo.getImports() ) {
+                if ( importText.endsWith( ".*" ) ) {
+                    prefixes.add( importText.substring( 0, importText.length() - 1 ) );
+                }
+            }
+            prefixes.add( JAVA_LANG_PREFIX );
+            return prefixes;
+        }
+
+        /**
+         * @return the {@code typeText} without type arguments and white spaces, varargs are turned into arrays
+         */
+        @NotNull
+        private static String erase(@NotNull String typeText) {
+            StringBuilder erased = new StringBuilder( typeText.length() );
+            int depth = 0;
+            for ( int i = 0; i < typeText.length(); i++ ) {
+                char c = typeText.charAt( i );
+                if ( c == '<' ) {
+                    depth++;
+                }
+                else if ( c == '>' ) {
+                    depth--;
+                }
+                else if ( depth == 0 && !Character.isWhitespace( c ) ) {
+                    erased.append( c );
+                }
+            }
+            return StringUtil.replace( erased.toString(), "...", "[]" );
+        }
+    }
+
+    private class MapperChangeListener extends PsiTreeChangeAdapter {
+
+        @Override
+        public void childAdded(@NotNull PsiTreeChangeEvent event) {
+            psiChanged( event );
+        }
+
+        @Override
+        public void childRemoved(@NotNull PsiTreeChangeEvent event) {
+            psiChanged( event );
+        }
+
+        @Override
+        public void childReplaced(@NotNull PsiTreeChangeEvent event) {
+            psiChanged( event );
+        }
+
+        @Override
+        public void childrenChanged(@NotNull PsiTreeChangeEvent event) {
+            psiChanged( event );
+        }
+
+        @Override
+        public void childMoved(@NotNull PsiTreeChangeEvent event) {
+            psiChanged( event );
+        }
+
+        @Override
+        public void propertyChanged(@NotNull PsiTreeChangeEvent event) {
+            psiChanged( event );
+        }
+
+        private void psiChanged(@NotNull PsiTreeChangeEvent event) {
+            PsiElement changed = event.getFile();
+            if ( changed == null ) {
+                changed = event.getChild() != null ? event.getChild() : event.getElement();
+            }
+
+            if ( changed instanceof PsiFile ) {
+                fileChanged( ( (PsiFile) changed ).getViewProvider().getVirtualFile() );
+            }
+            else {
+                // Directories have been added, moved or removed
+                outdated = true;
+            }
+        }
+    }
+}
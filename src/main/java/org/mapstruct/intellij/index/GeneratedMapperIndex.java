@@ -0,0 +1,247 @@
+/*
+ *  Copyright 2017 the MapStruct authors (http://www.mapstruct.org/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.intellij.index;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.intellij.ide.highlighter.JavaFileType;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.psi.JavaPsiFacade;
+import com.intellij.psi.PsiAnnotation;
+import com.intellij.psi.PsiAnnotationMemberValue;
+import com.intellij.psi.PsiArrayInitializerMemberValue;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiImportList;
+import com.intellij.psi.PsiImportStatement;
+import com.intellij.psi.PsiJavaCodeReferenceElement;
+import com.intellij.psi.PsiJavaFile;
+import com.intellij.psi.PsiLiteralExpression;
+import com.intellij.psi.PsiModifierList;
+import com.intellij.psi.PsiReferenceList;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.util.InheritanceUtil;
+import com.intellij.util.indexing.DataIndexer;
+import com.intellij.util.indexing.DefaultFileTypeSpecificInputFilter;
+import com.intellij.util.indexing.FileBasedIndex;
+import com.intellij.util.indexing.FileBasedIndexExtension;
+import com.intellij.util.indexing.FileContent;
+import com.intellij.util.indexing.ID;
+import com.intellij.util.io.DataExternalizer;
+import com.intellij.util.io.EnumeratorStringDescriptor;
+import com.intellij.util.io.KeyDescriptor;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Index of the implementations generated by the MapStruct processor, i.e. the classes annotated with
+ * {@code @Generated("org.mapstruct.ap.MapperProcessor")}. The key is the fully qualified name of the mapper (the
+ * implemented interface or the extended abstract class), the value is the fully qualified name of the generated
+ * class.
+ * <p>
+ * Nothing is resolved during indexing. The name of the mapper is derived from the single type imports and the
+ * package of the generated file, which is how the processor writes it.
+ *
+ * @author Filip Hrisafov
+ */
+public class GeneratedMapperIndex extends FileBasedIndexExtension<String, String> {
+
+    public static final ID<String, String> NAME = ID.create( "org.mapstruct.intellij.GeneratedMapperIndex" );
+
+    private static final String MAPPER_PROCESSOR = "org.mapstruct.ap.MapperProcessor";
+    private static final String GENERATED = "Generated";
+
+    @NotNull
+    @Override
+    public ID<String, String> getName() {
+        return NAME;
+    }
+
+    @NotNull
+    @Override
+    public DataIndexer<String, String, FileContent> getIndexer() {
+        return new GeneratedMapperIndexer();
+    }
+
+    @NotNull
+    @Override
+    public KeyDescriptor<String> getKeyDescriptor() {
+        return EnumeratorStringDescriptor.INSTANCE;
+    }
+
+    @NotNull
+    @Override
+    public DataExternalizer<String> getValueExternalizer() {
+        return EnumeratorStringDescriptor.INSTANCE;
+    }
+
+    @NotNull
+    @Override
+    public FileBasedIndex.InputFilter getInputFilter() {
+        return new DefaultFileTypeSpecificInputFilter( JavaFileType.INSTANCE );
+    }
+
+    @Override
+    public boolean dependsOnFileContent() {
+        return true;
+    }
+
+    @Override
+    public int getVersion() {
+        return 1;
+    }
+
+    /**
+     * Find the generated implementations of the {@code mapper}.
+     *
+     * @param mapper the mapper
+     *
+     * @return the generated implementations of the {@code mapper}
+     */
+    @NotNull
+    public static List<PsiClass> findImplementations(@NotNull PsiClass mapper) {
+        String qualifiedName = mapper.getQualifiedName();
+        if ( qualifiedName == null ) {
+            return Collections.emptyList();
+        }
+
+        GlobalSearchScope scope = GlobalSearchScope.allScope( mapper.getProject() );
+        JavaPsiFacade facade = JavaPsiFacade.getInstance( mapper.getProject() );
+        List<PsiClass> implementations = new ArrayList<>();
+        for ( String implementationName : FileBasedIndex.getInstance().getValues( NAME, qualifiedName, scope ) ) {
+            for ( PsiClass implementation : facade.findClasses( implementationName, scope ) ) {
+                if ( InheritanceUtil.isInheritorOrSelf( implementation, mapper, true )
+                    && !implementations.contains( implementation ) ) {
+                    implementations.add( implementation );
+                }
+            }
+        }
+        return implementations;
+    }
+
+    /**
+     * Checks if the {@code psiClass} has been generated by the MapStruct processor. The {@code @Generated}
+     * annotation is matched by its short name, nothing is resolved.
+     *
+     * @param psiClass the class to be checked
+     *
+     * @return {@code true} if the {@code psiClass} is a generated mapper implementation, {@code false} otherwise
+     */
+    public static boolean isGeneratedMapper(@NotNull PsiClass psiClass) {
+        PsiModifierList modifierList = psiClass.getModifierList();
+        if ( modifierList == null ) {
+            return false;
+        }
+        for ( PsiAnnotation annotation : modifierList.getAnnotations() ) {
+            PsiJavaCodeReferenceElement reference = annotation.getNameReferenceElement();
+            if ( reference != null && GENERATED.equals( reference.getReferenceName() )
+                && isMapperProcessor( annotation.findDeclaredAttributeValue( null ) ) ) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isMapperProcessor(@Nullable PsiAnnotationMemberValue value) {
+        if ( value instanceof PsiArrayInitializerMemberValue ) {
+            PsiAnnotationMemberValue[] initializers = ( (PsiArrayInitializerMemberValue) value ).getInitializers();
+            for ( PsiAnnotationMemberValue initializer : initializers ) {
+                if ( isMapperProcessor( initializer ) ) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        return value instanceof PsiLiteralExpression
+            && MAPPER_PROCESSOR.equals( ( (PsiLiteralExpression) value ).getValue() );
+    }
+
+    private static class GeneratedMapperIndexer implements DataIndexer<String, String, FileContent> {
+
+        @NotNull
+        @Override
+        public Map<String, String> map(@NotNull FileContent inputData) {
+            if ( !StringUtil.contains( inputData.getContentAsText(), MAPPER_PROCESSOR ) ) {
+                return Collections.emptyMap();
+            }
+
+            PsiFile psiFile = inputData.getPsiFile();
+            if ( !( psiFile instanceof PsiJavaFile ) ) {
+                return Collections.emptyMap();
+            }
+
+            PsiJavaFile javaFile = (PsiJavaFile) psiFile;
+            Map<String, String> result = new HashMap<>();
+            for ( PsiClass psiClass : javaFile.getClasses() ) {
+                String implementationName = psiClass.getQualifiedName();
+                if ( implementationName == null || !isGeneratedMapper( psiClass ) ) {
+                    continue;
+                }
+                addMappers( javaFile, psiClass.getExtendsList(), implementationName, result );
+                addMappers( javaFile, psiClass.getImplementsList(), implementationName, result );
+            }
+            return result;
+        }
+
+        private static void addMappers(@NotNull PsiJavaFile javaFile, @Nullable PsiReferenceList referenceList,
+            @NotNull String implementationName, @NotNull Map<String, String> result) {
+            if ( referenceList == null ) {
+                return;
+            }
+            for ( PsiJavaCodeReferenceElement reference : referenceList.getReferenceElements() ) {
+                String mapperName = getQualifiedName( javaFile, reference );
+                if ( mapperName != null ) {
+                    result.put( mapperName, implementationName );
+                }
+            }
+        }
+
+        @Nullable
+        private static String getQualifiedName(@NotNull PsiJavaFile javaFile,
+            @NotNull PsiJavaCodeReferenceElement reference) {
+            String name = reference.getReferenceName();
+            if ( name == null ) {
+                return null;
+            }
+            PsiElement qualifier = reference.getQualifier();
+            if ( qualifier != null ) {
+                return qualifier.getText() + "." + name;
+            }
+
+            PsiImportList importList = javaFile.getImportList();
+            if ( importList != null ) {
+                for ( PsiImportStatement importStatement : importList.getImportStatements() ) {
+                    String importedName = importStatement.getQualifiedName();
+                    if ( !importStatement.isOnDemand() && importedName != null
+                        && importedName.endsWith( "." + name ) ) {
+                        return importedName;
+                    }
+                }
+            }
+
+            String packageName = javaFile.getPackageName();
+            return packageName.isEmpty() ? name : packageName + "." + name;
+        }
+    }
+}
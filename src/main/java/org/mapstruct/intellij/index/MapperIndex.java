@@ -0,0 +1,253 @@
+/*
+ *  Copyright 2017 the MapStruct authors (http://www.mapstruct.org/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.intellij.index;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import com.intellij.ide.highlighter.JavaFileType;
+import com.intellij.openapi.project.DumbService;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiMethod;
+import com.intellij.psi.PsiParameter;
+import com.intellij.psi.PsiType;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.util.PsiUtilCore;
+import com.intellij.util.Processor;
+import com.intellij.util.indexing.DataIndexer;
+import com.intellij.util.indexing.DefaultFileTypeSpecificInputFilter;
+import com.intellij.util.indexing.FileBasedIndex;
+import com.intellij.util.indexing.FileBasedIndexExtension;
+import com.intellij.util.indexing.FileContent;
+import com.intellij.util.indexing.ID;
+import com.intellij.util.io.DataExternalizer;
+import com.intellij.util.io.EnumeratorStringDescriptor;
+import com.intellij.util.io.KeyDescriptor;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Index of all the classes that contain MapStruct mapping methods (mappers, mapper configs and classes that are
+ * missing those annotations). The key is the fully qualified name of the class.
+ * <p>
+ * The index only stores what is written in the source files. Nothing is resolved during indexing, the consumers
+ * need to resolve the types and the properties when they need them.
+ *
+ * @author Filip Hrisafov
+ */
+public class MapperIndex extends FileBasedIndexExtension<String, MapperInfo> {
+
+    public static final ID<String, MapperInfo> NAME = ID.create( "org.mapstruct.intellij.MapperIndex" );
+
+    private static final Pattern WHITE_SPACE = Pattern.compile( "\\s" );
+    private static final Pattern QUALIFIER = Pattern.compile( "[\\w$]+\\.(?=[\\w$])" );
+
+    @NotNull
+    @Override
+    public ID<String, MapperInfo> getName() {
+        return NAME;
+    }
+
+    @NotNull
+    @Override
+    public DataIndexer<String, MapperInfo, FileContent> getIndexer() {
+        return new MapperIndexer();
+    }
+
+    @NotNull
+    @Override
+    public KeyDescriptor<String> getKeyDescriptor() {
+        return EnumeratorStringDescriptor.INSTANCE;
+    }
+
+    @NotNull
+    @Override
+    public DataExternalizer<MapperInfo> getValueExternalizer() {
+        return MapperInfoExternalizer.INSTANCE;
+    }
+
+    @NotNull
+    @Override
+    public FileBasedIndex.InputFilter getInputFilter() {
+        return new DefaultFileTypeSpecificInputFilter( JavaFileType.INSTANCE );
+    }
+
+    @Override
+    public boolean dependsOnFileContent() {
+        return true;
+    }
+
+    @Override
+    public int getVersion() {
+        return 3;
+    }
+
+    /**
+     * @param project the project
+     *
+     * @return the fully qualified names of all the indexed classes (this might contain names of classes that have
+     * been removed in the meantime)
+     */
+    @NotNull
+    public static Collection<String> getAllQualifiedNames(@NotNull Project project) {
+        return FileBasedIndex.getInstance().getAllKeys( NAME, project );
+    }
+
+    /**
+     * @param qualifiedName the fully qualified name of the class
+     * @param scope the scope in which to look
+     *
+     * @return all the indexed information for classes with the given {@code qualifiedName} within the {@code scope}
+     */
+    @NotNull
+    public static List<MapperInfo> getMapperInfos(@NotNull String qualifiedName, @NotNull GlobalSearchScope scope) {
+        return FileBasedIndex.getInstance().getValues( NAME, qualifiedName, scope );
+    }
+
+    /**
+     * Find the {@link org.mapstruct.Mapping}s of the {@code method}. They are read from the index when the method
+     * can be found in it, so the AST of the file that declares the method does not need to be loaded. Overloaded
+     * methods are matched by their source and target types. Otherwise, e.g. while indexing or for overloads that
+     * cannot be told apart, they are read from the annotations of the method.
+     *
+     * @param method the mapping method
+     *
+     * @return the mappings of the method
+     */
+    @NotNull
+    public static List<MappingInfo> findMappings(@NotNull PsiMethod method) {
+        MappingMethodInfo mappingMethod = findMappingMethod( method );
+        return mappingMethod == null ? MapperIndexer.collectMappings( method ) : mappingMethod.getMappings();
+    }
+
+    @Nullable
+    private static MappingMethodInfo findMappingMethod(@NotNull PsiMethod method) {
+        PsiClass containingClass = method.getContainingClass();
+        String qualifiedName = containingClass == null ? null : containingClass.getQualifiedName();
+        VirtualFile file = PsiUtilCore.getVirtualFile( method );
+        if ( qualifiedName == null || file == null || method.isConstructor()
+            || DumbService.isDumb( method.getProject() ) ) {
+            return null;
+        }
+
+        boolean overloaded = containingClass.findMethodsByName( method.getName(), false ).length != 1;
+        MappingMethodInfo result = null;
+        for ( MapperInfo mapperInfo : getMapperInfos(
+            qualifiedName,
+            GlobalSearchScope.fileScope( method.getProject(), file )
+        ) ) {
+            for ( MappingMethodInfo mappingMethod : mapperInfo.getMappingMethods() ) {
+                if ( mappingMethod.getName().equals( method.getName() )
+                    && ( !overloaded || hasSameSignature( method, mappingMethod ) ) ) {
+                    if ( result != null ) {
+                        return null;
+                    }
+                    result = mappingMethod;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Compares the source and the target types of the {@code method} with the indexed ones. The index stores the
+     * types as they are written in the source, so the types are compared by their text without any qualifiers.
+     */
+    private static boolean hasSameSignature(@NotNull PsiMethod method, @NotNull MappingMethodInfo mappingMethod) {
+        PsiType returnType = method.getReturnType();
+        String targetType = returnType == null || PsiType.VOID.equals( returnType ) ? null :
+            getUnqualifiedText( returnType.getPresentableText() );
+        List<String> sourceTypes = new ArrayList<>();
+        for ( PsiParameter parameter : method.getParameterList().getParameters() ) {
+            if ( MapperIndexer.hasAnnotation( parameter, MapperIndexer.MAPPING_TARGET ) ) {
+                if ( targetType == null ) {
+                    targetType = getUnqualifiedText( parameter.getType().getPresentableText() );
+                }
+            }
+            else if ( !MapperIndexer.hasAnnotation( parameter, MapperIndexer.CONTEXT ) ) {
+                sourceTypes.add( getUnqualifiedText( parameter.getType().getPresentableText() ) );
+            }
+        }
+
+        List<String> indexedSourceTypes = mappingMethod.getSourceTypes();
+        if ( indexedSourceTypes.size() != sourceTypes.size() ) {
+            return false;
+        }
+        for ( int i = 0; i < sourceTypes.size(); i++ ) {
+            if ( !sourceTypes.get( i ).equals( getUnqualifiedText( indexedSourceTypes.get( i ) ) ) ) {
+                return false;
+            }
+        }
+
+        String indexedTargetType = mappingMethod.getTargetType();
+        return indexedTargetType == null ? targetType == null :
+            getUnqualifiedText( indexedTargetType ).equals( targetType );
+    }
+
+    /**
+     * @return the {@code typeText} without white spaces and without the qualifiers of the types, e.g.
+     * {@code List<CarDto>} for {@code java.util.List<org.example.CarDto>}
+     */
+    @NotNull
+    private static String getUnqualifiedText(@NotNull String typeText) {
+        return QUALIFIER.matcher( WHITE_SPACE.matcher( typeText ).replaceAll( "" ) ).replaceAll( "" );
+    }
+
+    /**
+     * Process all the indexed classes within the given {@code scope}.
+     *
+     * @param project the project
+     * @param scope the scope in which to look
+     * @param processor the processor that receives the file and the indexed information, returning {@code false}
+     * stops the processing
+     *
+     * @return {@code false} if the processing was stopped by the {@code processor}, {@code true} otherwise
+     */
+    public static boolean processAllMappers(@NotNull Project project, @NotNull GlobalSearchScope scope,
+        @NotNull MapperInfoProcessor processor) {
+        FileBasedIndex index = FileBasedIndex.getInstance();
+        List<String> keys = new ArrayList<>();
+        index.processAllKeys( NAME, (Processor<String>) keys::add, scope, null );
+        for ( String key : keys ) {
+            if ( !index.processValues( NAME, key, null, processor::process, scope ) ) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Processor for the information stored in the {@link MapperIndex}.
+     */
+    @FunctionalInterface
+    public interface MapperInfoProcessor {
+
+        /**
+         * @param file the file in which the class is declared
+         * @param mapperInfo the indexed information of the class
+         *
+         * @return {@code false} to stop the processing, {@code true} otherwise
+         */
+        boolean process(@NotNull VirtualFile file, @NotNull MapperInfo mapperInfo);
+    }
+}
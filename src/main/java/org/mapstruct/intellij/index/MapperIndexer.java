@@ -0,0 +1,312 @@
+/*
+ *  Copyright 2017 the MapStruct authors (http://www.mapstruct.org/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.intellij.index;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.psi.PsiAnnotation;
+import com.intellij.psi.PsiAnnotationMemberValue;
+import com.intellij.psi.PsiArrayInitializerMemberValue;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiClassObjectAccessExpression;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiImportList;
+import com.intellij.psi.PsiImportStatement;
+import com.intellij.psi.PsiJavaCodeReferenceElement;
+import com.intellij.psi.PsiJavaFile;
+import com.intellij.psi.PsiLiteralExpression;
+import com.intellij.psi.PsiMethod;
+import com.intellij.psi.PsiModifier;
+import com.intellij.psi.PsiModifierList;
+import com.intellij.psi.PsiModifierListOwner;
+import com.intellij.psi.PsiParameter;
+import com.intellij.psi.PsiType;
+import com.intellij.psi.PsiTypeElement;
+import com.intellij.util.indexing.DataIndexer;
+import com.intellij.util.indexing.FileContent;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.mapstruct.Mapper;
+import org.mapstruct.MapperConfig;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
+import org.mapstruct.Mappings;
+import org.mapstruct.ValueMapping;
+import org.mapstruct.ValueMappings;
+
+/**
+ * The indexer for the {@link MapperIndex}.
+ * <p>
+ * No references are resolved during indexing, the annotations are matched by their short name. Files that do not
+ * mention {@code org.mapstruct} at all are skipped without looking at their PSI.
+ *
+ * @author Filip Hrisafov
+ */
+class MapperIndexer implements DataIndexer<String, MapperInfo, FileContent> {
+
+    static final String MAPSTRUCT_PACKAGE = "org.mapstruct";
+
+    private static final String MAPPER = Mapper.class.getSimpleName();
+    private static final String MAPPER_CONFIG = MapperConfig.class.getSimpleName();
+    private static final String MAPPING = Mapping.class.getSimpleName();
+    private static final String MAPPINGS = Mappings.class.getSimpleName();
+    private static final String VALUE_MAPPING = ValueMapping.class.getSimpleName();
+    private static final String VALUE_MAPPINGS = ValueMappings.class.getSimpleName();
+    static final String MAPPING_TARGET = MappingTarget.class.getSimpleName();
+    static final String CONTEXT = "Context";
+
+    @NotNull
+    @Override
+    public Map<String, MapperInfo> map(@NotNull FileContent inputData) {
+        if ( !StringUtil.contains( inputData.getContentAsText(), MAPSTRUCT_PACKAGE ) ) {
+            return Collections.emptyMap();
+        }
+
+        PsiFile psiFile = inputData.getPsiFile();
+        if ( !( psiFile instanceof PsiJavaFile ) ) {
+            return Collections.emptyMap();
+        }
+
+        PsiJavaFile javaFile = (PsiJavaFile) psiFile;
+        List<String> imports = getImports( javaFile );
+        Map<String, MapperInfo> result = new HashMap<>();
+        for ( PsiClass psiClass : javaFile.getClasses() ) {
+            indexClass( psiClass, javaFile.getPackageName(), imports, result );
+        }
+        return result;
+    }
+
+    private static void indexClass(@NotNull PsiClass psiClass, @NotNull String packageName,
+        @NotNull List<String> imports, @NotNull Map<String, MapperInfo> result) {
+        String qualifiedName = psiClass.getQualifiedName();
+        if ( qualifiedName != null ) {
+            MapperInfo.Kind kind = getKind( psiClass );
+            List<MappingMethodInfo> mappingMethods = new ArrayList<>();
+            for ( PsiMethod method : psiClass.getMethods() ) {
+                if ( isMappingMethod( method, kind ) ) {
+                    mappingMethods.add( createMappingMethodInfo( method ) );
+                }
+            }
+
+            if ( kind != MapperInfo.Kind.OTHER || !mappingMethods.isEmpty() ) {
+                List<String> uses = getUses( psiClass, kind );
+                result.put(
+                    qualifiedName,
+                    new MapperInfo( qualifiedName, kind, packageName, imports, uses, mappingMethods )
+                );
+            }
+        }
+
+        for ( PsiClass innerClass : psiClass.getInnerClasses() ) {
+            indexClass( innerClass, packageName, imports, result );
+        }
+    }
+
+    /**
+     * @return the texts of the non static imports of the file, the on demand imports end with {@code .*}
+     */
+    @NotNull
+    private static List<String> getImports(@NotNull PsiJavaFile javaFile) {
+        PsiImportList importList = javaFile.getImportList();
+        if ( importList == null ) {
+            return Collections.emptyList();
+        }
+
+        List<String> imports = new ArrayList<>();
+        for ( PsiImportStatement importStatement : importList.getImportStatements() ) {
+            PsiJavaCodeReferenceElement reference = importStatement.getImportReference();
+            if ( reference != null ) {
+                String text = reference.getText().replaceAll( "\\s", "" );
+                imports.add( importStatement.isOnDemand() ? text + ".*" : text );
+            }
+        }
+        return imports;
+    }
+
+    /**
+     * @return the texts of the class literals within the {@code uses} of the mapper (or mapper config) annotation
+     */
+    @NotNull
+    private static List<String> getUses(@NotNull PsiClass psiClass, @NotNull MapperInfo.Kind kind) {
+        PsiAnnotation annotation = kind == MapperInfo.Kind.MAPPER ? findAnnotation( psiClass, MAPPER ) :
+            kind == MapperInfo.Kind.MAPPER_CONFIG ? findAnnotation( psiClass, MAPPER_CONFIG ) : null;
+        PsiAnnotationMemberValue value = annotation == null ? null : annotation.findDeclaredAttributeValue( "uses" );
+        PsiAnnotationMemberValue[] values;
+        if ( value instanceof PsiArrayInitializerMemberValue ) {
+            values = ( (PsiArrayInitializerMemberValue) value ).getInitializers();
+        }
+        else if ( value != null ) {
+            values = new PsiAnnotationMemberValue[] { value };
+        }
+        else {
+            return Collections.emptyList();
+        }
+
+        List<String> uses = new ArrayList<>( values.length );
+        for ( PsiAnnotationMemberValue used : values ) {
+            if ( used instanceof PsiClassObjectAccessExpression ) {
+                uses.add( ( (PsiClassObjectAccessExpression) used ).getOperand().getText() );
+            }
+        }
+        return uses;
+    }
+
+    @NotNull
+    private static MapperInfo.Kind getKind(@NotNull PsiClass psiClass) {
+        if ( hasAnnotation( psiClass, MAPPER ) ) {
+            return MapperInfo.Kind.MAPPER;
+        }
+        else if ( hasAnnotation( psiClass, MAPPER_CONFIG ) ) {
+            return MapperInfo.Kind.MAPPER_CONFIG;
+        }
+        return MapperInfo.Kind.OTHER;
+    }
+
+    /**
+     * A method is a mapping method when it is annotated with one of the MapStruct mapping annotations, or when it is
+     * an abstract method with at least one parameter within a mapper / mapper config.
+     */
+    private static boolean isMappingMethod(@NotNull PsiMethod method, @NotNull MapperInfo.Kind kind) {
+        if ( hasAnnotation( method, MAPPING )
+            || hasAnnotation( method, MAPPINGS )
+            || hasAnnotation( method, VALUE_MAPPING )
+            || hasAnnotation( method, VALUE_MAPPINGS ) ) {
+            return true;
+        }
+
+        return kind != MapperInfo.Kind.OTHER
+            && !method.isConstructor()
+            && method.hasModifierProperty( PsiModifier.ABSTRACT )
+            && method.getParameterList().getParametersCount() > 0;
+    }
+
+    @NotNull
+    private static MappingMethodInfo createMappingMethodInfo(@NotNull PsiMethod method) {
+        List<String> sourceTypes = new ArrayList<>();
+        String targetType = PsiType.VOID.equals( method.getReturnType() ) ? null :
+            getTypeText( method.getReturnTypeElement() );
+        for ( PsiParameter parameter : method.getParameterList().getParameters() ) {
+            if ( hasAnnotation( parameter, MAPPING_TARGET ) ) {
+                if ( targetType == null ) {
+                    targetType = getTypeText( parameter.getTypeElement() );
+                }
+            }
+            else if ( !hasAnnotation( parameter, CONTEXT ) ) {
+                String sourceType = getTypeText( parameter.getTypeElement() );
+                if ( sourceType != null ) {
+                    sourceTypes.add( sourceType );
+                }
+            }
+        }
+
+        return new MappingMethodInfo( method.getName(), sourceTypes, targetType, collectMappings( method ) );
+    }
+
+    @NotNull
+    static List<MappingInfo> collectMappings(@NotNull PsiMethod method) {
+        List<MappingInfo> mappings = new ArrayList<>();
+        for ( PsiAnnotation annotation : method.getModifierList().getAnnotations() ) {
+            if ( isAnnotation( annotation, MAPPING ) ) {
+                mappings.add( createMappingInfo( annotation ) );
+            }
+            else if ( isAnnotation( annotation, MAPPINGS ) ) {
+                PsiAnnotationMemberValue value = annotation.findDeclaredAttributeValue( null );
+                if ( value instanceof PsiArrayInitializerMemberValue ) {
+                    for ( PsiAnnotationMemberValue initializer :
+                        ( (PsiArrayInitializerMemberValue) value ).getInitializers() ) {
+                        if ( initializer instanceof PsiAnnotation ) {
+                            mappings.add( createMappingInfo( (PsiAnnotation) initializer ) );
+                        }
+                    }
+                }
+                else if ( value instanceof PsiAnnotation ) {
+                    mappings.add( createMappingInfo( (PsiAnnotation) value ) );
+                }
+            }
+        }
+        return mappings;
+    }
+
+    @NotNull
+    private static MappingInfo createMappingInfo(@NotNull PsiAnnotation annotation) {
+        PsiAnnotationMemberValue ignore = annotation.findDeclaredAttributeValue( "ignore" );
+        return new MappingInfo(
+            getLiteralValue( annotation.findDeclaredAttributeValue( "target" ) ),
+            getLiteralValue( annotation.findDeclaredAttributeValue( "source" ) ),
+            ignore instanceof PsiLiteralExpression
+                && Boolean.TRUE.equals( ( (PsiLiteralExpression) ignore ).getValue() ),
+            getDefinedValue( annotation.findDeclaredAttributeValue( "expression" ) ),
+            getDefinedValue( annotation.findDeclaredAttributeValue( "constant" ) )
+        );
+    }
+
+    /**
+     * @return the literal value, an empty string if the value is not a literal, or {@code null} if there is no value
+     */
+    @Nullable
+    private static String getDefinedValue(@Nullable PsiAnnotationMemberValue value) {
+        if ( value == null ) {
+            return null;
+        }
+        String literalValue = getLiteralValue( value );
+        return literalValue == null ? "" : literalValue;
+    }
+
+    @Nullable
+    private static String getLiteralValue(@Nullable PsiAnnotationMemberValue value) {
+        if ( value instanceof PsiLiteralExpression ) {
+            Object literalValue = ( (PsiLiteralExpression) value ).getValue();
+            return literalValue instanceof String ? (String) literalValue : null;
+        }
+        return null;
+    }
+
+    @Nullable
+    private static String getTypeText(@Nullable PsiTypeElement typeElement) {
+        return typeElement == null ? null : typeElement.getText();
+    }
+
+    static boolean hasAnnotation(@NotNull PsiModifierListOwner owner, @NotNull String shortName) {
+        return findAnnotation( owner, shortName ) != null;
+    }
+
+    @Nullable
+    private static PsiAnnotation findAnnotation(@NotNull PsiModifierListOwner owner, @NotNull String shortName) {
+        PsiModifierList modifierList = owner.getModifierList();
+        if ( modifierList == null ) {
+            return null;
+        }
+        for ( PsiAnnotation annotation : modifierList.getAnnotations() ) {
+            if ( isAnnotation( annotation, shortName ) ) {
+                return annotation;
+            }
+        }
+        return null;
+    }
+
+    private static boolean isAnnotation(@NotNull PsiAnnotation annotation, @NotNull String shortName) {
+        PsiJavaCodeReferenceElement referenceElement = annotation.getNameReferenceElement();
+        return referenceElement != null && shortName.equals( referenceElement.getReferenceName() );
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ *  Copyright 2017 the MapStruct authors (http://www.mapstruct.org/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.intellij.index;
+
+import java.util.List;
+import java.util.Objects;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A class that contains MapStruct mapping methods as stored in the {@link MapperIndex}.
+ *
+ * @author Filip Hrisafov
+ */
+public final class MapperInfo {
+
+    /**
+     * The kind of the indexed class.
+     */
+    public enum Kind {
+        /**
+         * A class annotated with {@link org.mapstruct.Mapper}.
+         */
+        MAPPER,
+        /**
+         * A class annotated with {@link org.mapstruct.MapperConfig}.
+         */
+        MAPPER_CONFIG,
+        /**
+         * A class that declares mapping methods, but is neither a mapper nor a mapper config.
+         */
+        OTHER
+    }
+
+    private final String qualifiedName;
+    private final Kind kind;
+    private final String packageName;
+    private final List<String> imports;
+    private final List<String> uses;
+    private final List<MappingMethodInfo> mappingMethods;
+
+    public MapperInfo(@NotNull String qualifiedName, @NotNull Kind kind, @NotNull String packageName,
+        @NotNull List<String> imports, @NotNull List<String> uses, @NotNull List<MappingMethodInfo> mappingMethods) {
+        this.qualifiedName = qualifiedName;
+        this.kind = kind;
+        this.packageName = packageName;
+        this.imports = imports;
+        this.uses = uses;
+        this.mappingMethods = mappingMethods;
+    }
+
+    /**
+     * @return the fully qualified name of the class
+     */
+    @NotNull
+    public String getQualifiedName() {
+        return qualifiedName;
+    }
+
+    /**
+     * @return the kind of the class
+     */
+    @NotNull
+    public Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * @return the package of the file that declares the class
+     */
+    @NotNull
+    public String getPackageName() {
+        return packageName;
+    }
+
+    /**
+     * @return the (non static) imports of the file that declares the class as written, on demand imports end with
+     * {@code .*}. Together with the {@link #getPackageName()} they are needed to resolve the type texts of the class.
+     */
+    @NotNull
+    public List<String> getImports() {
+        return imports;
+    }
+
+    /**
+     * @return the texts of the class literals in {@link org.mapstruct.Mapper#uses()} (or
+     * {@link org.mapstruct.MapperConfig#uses()}) as written in the source file
+     */
+    @NotNull
+    public List<String> getUses() {
+        return uses;
+    }
+
+    /**
+     * @return all the mapping methods declared in the class
+     */
+    @NotNull
+    public List<MappingMethodInfo> getMappingMethods() {
+        return mappingMethods;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if ( this == o ) {
+            return true;
+        }
+        if ( o == null || getClass() != o.getClass() ) {
+            return false;
+        }
+        MapperInfo that = (MapperInfo) o;
+        return Objects.equals( qualifiedName, that.qualifiedName )
+            && kind == that.kind
+            && Objects.equals( packageName, that.packageName )
+            && Objects.equals( imports, that.imports )
+            && Objects.equals( uses, that.uses )
+            && Objects.equals( mappingMethods, that.mappingMethods );
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash( qualifiedName, kind, packageName, imports, uses, mappingMethods );
+    }
+}
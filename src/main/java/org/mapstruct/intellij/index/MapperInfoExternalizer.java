@@ -0,0 +1,122 @@
+/*
+ *  Copyright 2017 the MapStruct authors (http://www.mapstruct.org/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.intellij.index;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.intellij.util.io.DataExternalizer;
+import com.intellij.util.io.DataInputOutputUtil;
+import com.intellij.util.io.IOUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * {@link DataExternalizer} for the values of the {@link MapperIndex}.
+ *
+ * @author Filip Hrisafov
+ */
+class MapperInfoExternalizer implements DataExternalizer<MapperInfo> {
+
+    static final MapperInfoExternalizer INSTANCE = new MapperInfoExternalizer();
+
+    @Override
+    public void save(@NotNull DataOutput out, MapperInfo value) throws IOException {
+        IOUtil.writeUTF( out, value.getQualifiedName() );
+        DataInputOutputUtil.writeINT( out, value.getKind().ordinal() );
+        IOUtil.writeUTF( out, value.getPackageName() );
+        writeStrings( out, value.getImports() );
+        writeStrings( out, value.getUses() );
+        DataInputOutputUtil.writeINT( out, value.getMappingMethods().size() );
+        for ( MappingMethodInfo method : value.getMappingMethods() ) {
+            IOUtil.writeUTF( out, method.getName() );
+            writeStrings( out, method.getSourceTypes() );
+            writeNullableString( out, method.getTargetType() );
+            DataInputOutputUtil.writeINT( out, method.getMappings().size() );
+            for ( MappingInfo mapping : method.getMappings() ) {
+                writeNullableString( out, mapping.getTarget() );
+                writeNullableString( out, mapping.getSource() );
+                out.writeBoolean( mapping.isIgnore() );
+                writeNullableString( out, mapping.getExpression() );
+                writeNullableString( out, mapping.getConstant() );
+            }
+        }
+    }
+
+    @Override
+    public MapperInfo read(@NotNull DataInput in) throws IOException {
+        String qualifiedName = IOUtil.readUTF( in );
+        MapperInfo.Kind kind = MapperInfo.Kind.values()[DataInputOutputUtil.readINT( in )];
+        String packageName = IOUtil.readUTF( in );
+        List<String> imports = readStrings( in );
+        List<String> uses = readStrings( in );
+        int methodsCount = DataInputOutputUtil.readINT( in );
+        List<MappingMethodInfo> methods = new ArrayList<>( methodsCount );
+        for ( int i = 0; i < methodsCount; i++ ) {
+            String name = IOUtil.readUTF( in );
+            List<String> sourceTypes = readStrings( in );
+            String targetType = readNullableString( in );
+            int mappingsCount = DataInputOutputUtil.readINT( in );
+            List<MappingInfo> mappings = new ArrayList<>( mappingsCount );
+            for ( int j = 0; j < mappingsCount; j++ ) {
+                mappings.add( new MappingInfo(
+                    readNullableString( in ),
+                    readNullableString( in ),
+                    in.readBoolean(),
+                    readNullableString( in ),
+                    readNullableString( in )
+                ) );
+            }
+            methods.add( new MappingMethodInfo( name, sourceTypes, targetType, mappings ) );
+        }
+        return new MapperInfo( qualifiedName, kind, packageName, imports, uses, methods );
+    }
+
+    private static void writeStrings(@NotNull DataOutput out, @NotNull List<String> values) throws IOException {
+        DataInputOutputUtil.writeINT( out, values.size() );
+        for ( String value : values ) {
+            IOUtil.writeUTF( out, value );
+        }
+    }
+
+    @NotNull
+    private static List<String> readStrings(@NotNull DataInput in) throws IOException {
+        int count = DataInputOutputUtil.readINT( in );
+        List<String> values = new ArrayList<>( count );
+        for ( int i = 0; i < count; i++ ) {
+            values.add( IOUtil.readUTF( in ) );
+        }
+        return values;
+    }
+
+    private static void writeNullableString(@NotNull DataOutput out, @Nullable String value) throws IOException {
+        out.writeBoolean( value != null );
+        if ( value != null ) {
+            IOUtil.writeUTF( out, value );
+        }
+    }
+
+    @Nullable
+    private static String readNullableString(@NotNull DataInput in) throws IOException {
+        return in.readBoolean() ? IOUtil.readUTF( in ) : null;
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ *  Copyright 2017 the MapStruct authors (http://www.mapstruct.org/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.intellij.index;
+
+import java.util.Objects;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The literal values of a single {@link org.mapstruct.Mapping} annotation as stored in the {@link MapperIndex}.
+ *
+ * @author Filip Hrisafov
+ */
+public final class MappingInfo {
+
+    private final String target;
+    private final String source;
+    private final boolean ignore;
+    private final String expression;
+    private final String constant;
+
+    public MappingInfo(@Nullable String target, @Nullable String source, boolean ignore, @Nullable String expression,
+        @Nullable String constant) {
+        this.target = target;
+        this.source = source;
+        this.ignore = ignore;
+        this.expression = expression;
+        this.constant = constant;
+    }
+
+    /**
+     * @return the literal value of {@link org.mapstruct.Mapping#target()}, or {@code null} if it is not a literal
+     */
+    @Nullable
+    public String getTarget() {
+        return target;
+    }
+
+    /**
+     * @return the literal value of {@link org.mapstruct.Mapping#source()}, or {@code null} if it is not defined
+     */
+    @Nullable
+    public String getSource() {
+        return source;
+    }
+
+    /**
+     * @return the value of {@link org.mapstruct.Mapping#ignore()}
+     */
+    public boolean isIgnore() {
+        return ignore;
+    }
+
+    /**
+     * @return the literal value of {@link org.mapstruct.Mapping#expression()}, an empty string if it is defined but
+     * it is not a literal, or {@code null} if it is not defined
+     */
+    @Nullable
+    public String getExpression() {
+        return expression;
+    }
+
+    /**
+     * @return the literal value of {@link org.mapstruct.Mapping#constant()}, an empty string if it is defined but it
+     * is not a literal, or {@code null} if it is not defined
+     */
+    @Nullable
+    public String getConstant() {
+        return constant;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if ( this == o ) {
+            return true;
+        }
+        if ( o == null || getClass() != o.getClass() ) {
+            return false;
+        }
+        MappingInfo that = (MappingInfo) o;
+        return ignore == that.ignore
+            && Objects.equals( target, that.target )
+            && Objects.equals( source, that.source )
+            && Objects.equals( expression, that.expression )
+            && Objects.equals( constant, that.constant );
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash( target, source, ignore, expression, constant );
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ *  Copyright 2017 the MapStruct authors (http://www.mapstruct.org/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.intellij.index;
+
+import java.util.List;
+import java.util.Objects;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A mapping method of a mapper as stored in the {@link MapperIndex}. The types are kept as they are written in the
+ * source file, they need to be resolved by the consumer.
+ *
+ * @author Filip Hrisafov
+ */
+public final class MappingMethodInfo {
+
+    private final String name;
+    private final List<String> sourceTypes;
+    private final String targetType;
+    private final List<MappingInfo> mappings;
+
+    public MappingMethodInfo(@NotNull String name, @NotNull List<String> sourceTypes, @Nullable String targetType,
+        @NotNull List<MappingInfo> mappings) {
+        this.name = name;
+        this.sourceTypes = sourceTypes;
+        this.targetType = targetType;
+        this.mappings = mappings;
+    }
+
+    /**
+     * @return the name of the mapping method
+     */
+    @NotNull
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return the text of the types of the source parameters
+     */
+    @NotNull
+    public List<String> getSourceTypes() {
+        return sourceTypes;
+    }
+
+    /**
+     * @return the text of the return type or of the {@link org.mapstruct.MappingTarget} parameter type, {@code null}
+     * if the method has neither
+     */
+    @Nullable
+    public String getTargetType() {
+        return targetType;
+    }
+
+    /**
+     * @return all the {@link org.mapstruct.Mapping} annotations of the method
+     */
+    @NotNull
+    public List<MappingInfo> getMappings() {
+        return mappings;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if ( this == o ) {
+            return true;
+        }
+        if ( o == null || getClass() != o.getClass() ) {
+            return false;
+        }
+        MappingMethodInfo that = (MappingMethodInfo) o;
+        return Objects.equals( name, that.name )
+            && Objects.equals( sourceTypes, that.sourceTypes )
+            && Objects.equals( targetType, that.targetType )
+            && Objects.equals( mappings, that.mappings );
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash( name, sourceTypes, targetType, mappings );
+    }
+}
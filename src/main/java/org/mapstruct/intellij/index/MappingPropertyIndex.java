@@ -0,0 +1,129 @@
+/*
+ *  Copyright 2017 the MapStruct authors (http://www.mapstruct.org/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.intellij.index;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.intellij.ide.highlighter.JavaFileType;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.util.indexing.DataIndexer;
+import com.intellij.util.indexing.DefaultFileTypeSpecificInputFilter;
+import com.intellij.util.indexing.FileBasedIndex;
+import com.intellij.util.indexing.FileContent;
+import com.intellij.util.indexing.ID;
+import com.intellij.util.indexing.ScalarIndexExtension;
+import com.intellij.util.io.EnumeratorStringDescriptor;
+import com.intellij.util.io.KeyDescriptor;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Index of the property names used in the {@code target} and {@code source} of {@link org.mapstruct.Mapping}
+ * annotations. Nested properties are split in their segments, i.e. {@code "driver.name"} is indexed under
+ * {@code driver} and {@code name}.
+ *
+ * @author Filip Hrisafov
+ */
+public class MappingPropertyIndex extends ScalarIndexExtension<String> {
+
+    public static final ID<String, Void> NAME = ID.create( "org.mapstruct.intellij.MappingPropertyIndex" );
+
+    @NotNull
+    @Override
+    public ID<String, Void> getName() {
+        return NAME;
+    }
+
+    @NotNull
+    @Override
+    public DataIndexer<String, Void, FileContent> getIndexer() {
+        return new MappingPropertyIndexer();
+    }
+
+    @NotNull
+    @Override
+    public KeyDescriptor<String> getKeyDescriptor() {
+        return EnumeratorStringDescriptor.INSTANCE;
+    }
+
+    @NotNull
+    @Override
+    public FileBasedIndex.InputFilter getInputFilter() {
+        return new DefaultFileTypeSpecificInputFilter( JavaFileType.INSTANCE );
+    }
+
+    @Override
+    public boolean dependsOnFileContent() {
+        return true;
+    }
+
+    @Override
+    public int getVersion() {
+        return 1;
+    }
+
+    /**
+     * @param propertyName the name of the property
+     * @param scope the scope in which to look
+     *
+     * @return all the files within the {@code scope} that have a {@link org.mapstruct.Mapping} with the
+     * {@code propertyName} in its {@code target} or {@code source}
+     */
+    @NotNull
+    public static Collection<VirtualFile> getFilesWithProperty(@NotNull String propertyName,
+        @NotNull GlobalSearchScope scope) {
+        return FileBasedIndex.getInstance().getContainingFiles( NAME, propertyName, scope );
+    }
+
+    private static class MappingPropertyIndexer implements DataIndexer<String, Void, FileContent> {
+
+        private final MapperIndexer mapperIndexer = new MapperIndexer();
+
+        @NotNull
+        @Override
+        public Map<String, Void> map(@NotNull FileContent inputData) {
+            Map<String, Void> result = new HashMap<>();
+            for ( MapperInfo mapperInfo : mapperIndexer.map( inputData ).values() ) {
+                for ( MappingMethodInfo mappingMethod : mapperInfo.getMappingMethods() ) {
+                    for ( MappingInfo mapping : mappingMethod.getMappings() ) {
+                        addSegments( mapping.getTarget(), result );
+                        addSegments( mapping.getSource(), result );
+                    }
+                }
+            }
+            return result;
+        }
+
+        private static void addSegments(String path, Map<String, Void> result) {
+            if ( path == null ) {
+                return;
+            }
+
+            for ( String segment : StringUtil.split( path, "." ) ) {
+                String trimmed = segment.trim();
+                if ( !trimmed.isEmpty() ) {
+                    result.put( trimmed, null );
+                }
+            }
+        }
+    }
+}
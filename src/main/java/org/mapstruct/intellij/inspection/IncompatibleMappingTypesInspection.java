@@ -0,0 +1,158 @@
+/*
+ *  Copyright 2017 the MapStruct authors (http://www.mapstruct.org/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.intellij.inspection;
+
+import com.intellij.codeInspection.ProblemsHolder;
+import com.intellij.psi.JavaElementVisitor;
+import com.intellij.psi.PsiAnnotation;
+import com.intellij.psi.PsiAnnotationMemberValue;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiElementVisitor;
+import com.intellij.psi.PsiLiteralExpression;
+import com.intellij.psi.PsiMethod;
+import com.intellij.psi.PsiType;
+import com.intellij.psi.PsiTypeParameter;
+import com.intellij.psi.util.PsiUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.mapstruct.intellij.MapStructBundle;
+import org.mapstruct.intellij.util.ConversionTable;
+import org.mapstruct.intellij.util.SourceUtils;
+import org.mapstruct.intellij.util.TargetUtils;
+
+import static org.mapstruct.intellij.util.MapstructUtil.isMapper;
+import static org.mapstruct.intellij.util.MapstructUtil.isMapperConfig;
+
+/**
+ * Inspection that checks if the source of a {@link org.mapstruct.Mapping} can be mapped into its target. Mappings
+ * that are ignored, that use a constant or an expression, or that select a mapping method through a qualifier are
+ * not checked.
+ *
+ * @author Filip Hrisafov
+ */
+public class IncompatibleMappingTypesInspection extends InspectionBase {
+
+    private static final String[] SKIPPED_ATTRIBUTES = {
+        "constant",
+        "expression",
+        "qualifiedBy",
+        "qualifiedByName",
+        "resultType"
+    };
+
+    @NotNull
+    @Override
+    PsiElementVisitor buildVisitorInternal(@NotNull ProblemsHolder holder, boolean isOnTheFly) {
+        return new MyJavaElementVisitor( holder );
+    }
+
+    private static class MyJavaElementVisitor extends JavaElementVisitor {
+        private final ProblemsHolder holder;
+
+        private MyJavaElementVisitor(ProblemsHolder holder) {
+            this.holder = holder;
+        }
+
+        @Override
+        public void visitMethod(PsiMethod method) {
+            super.visitMethod( method );
+
+            PsiClass containingClass = method.getContainingClass();
+            if ( containingClass == null || !( isMapper( containingClass ) || isMapperConfig( containingClass ) ) ) {
+                return;
+            }
+
+            TargetUtils.findAllMappingAnnotations( method )
+                .forEach( mappingAnnotation -> checkMapping( method, mappingAnnotation ) );
+        }
+
+        private void checkMapping(@NotNull PsiMethod method, @NotNull PsiAnnotation mappingAnnotation) {
+            if ( isSkipped( mappingAnnotation ) ) {
+                return;
+            }
+
+            PsiAnnotationMemberValue sourceValue = mappingAnnotation.findDeclaredAttributeValue( "source" );
+            String source = getStringValue( sourceValue );
+            String target = getStringValue( mappingAnnotation.findDeclaredAttributeValue( "target" ) );
+            if ( sourceValue == null || source == null || source.isEmpty() || target == null || target.isEmpty() ) {
+                return;
+            }
+
+            PsiType sourceType = SourceUtils.findSourceType( method, source );
+            PsiType targetType = TargetUtils.findTargetType( method, target );
+            if ( !isCheckable( sourceType ) || !isCheckable( targetType ) ) {
+                return;
+            }
+
+            //noinspection ConstantConditions
+            if ( !ConversionTable.getInstance( method ).canConvert( sourceType, targetType ) ) {
+                holder.registerProblem(
+                    sourceValue,
+                    MapStructBundle.message(
+                        "inspection.incompatible.mapping.types.problem",
+                        sourceType.getPresentableText(),
+                        targetType.getPresentableText()
+                    )
+                );
+            }
+        }
+
+        /**
+         * @param mappingAnnotation the mapping
+         *
+         * @return {@code true} if the mapping is ignored or does not map its source with a generated conversion
+         */
+        private static boolean isSkipped(@NotNull PsiAnnotation mappingAnnotation) {
+            PsiAnnotationMemberValue ignore = mappingAnnotation.findDeclaredAttributeValue( "ignore" );
+            if ( ignore instanceof PsiLiteralExpression
+                && Boolean.TRUE.equals( ( (PsiLiteralExpression) ignore ).getValue() ) ) {
+                return true;
+            }
+            for ( String attribute : SKIPPED_ATTRIBUTES ) {
+                if ( mappingAnnotation.findDeclaredAttributeValue( attribute ) != null ) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * @param value the value of an annotation attribute
+         *
+         * @return the value of the string literal, or {@code null} if the value is not a string literal
+         */
+        @Nullable
+        private static String getStringValue(@Nullable PsiAnnotationMemberValue value) {
+            if ( value instanceof PsiLiteralExpression ) {
+                Object literalValue = ( (PsiLiteralExpression) value ).getValue();
+                return literalValue instanceof String ? (String) literalValue : null;
+            }
+            return null;
+        }
+
+        /**
+         * @param type the type to check
+         *
+         * @return {@code true} if the type is resolved and it is not a type variable
+         */
+        private static boolean isCheckable(@Nullable PsiType type) {
+            return type != null && !( PsiUtil.resolveClassInType( type ) instanceof PsiTypeParameter );
+        }
+    }
+}
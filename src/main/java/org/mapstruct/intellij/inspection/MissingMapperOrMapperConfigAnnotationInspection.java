@@ -18,15 +18,21 @@
  */
 package org.mapstruct.intellij.inspection;
 
+import java.util.stream.Stream;
+
 import com.intellij.codeInsight.intention.AddAnnotationPsiFix;
 import com.intellij.codeInspection.ProblemsHolder;
 import com.intellij.psi.JavaElementVisitor;
 import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiCompiledElement;
 import com.intellij.psi.PsiElementVisitor;
-import com.intellij.psi.PsiMethod;
 import com.intellij.psi.PsiNameValuePair;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.util.InheritanceUtil;
 import org.jetbrains.annotations.NotNull;
 import org.mapstruct.intellij.MapStructBundle;
+import org.mapstruct.intellij.index.MapperIndex;
+import org.mapstruct.intellij.index.MapperInfo;
 import org.mapstruct.intellij.util.MapstructUtil;
 
 import static org.mapstruct.intellij.util.MapstructUtil.isMapper;
@@ -64,25 +70,52 @@ public void visitClass(PsiClass aClass) {
                 return;
             }
 
-            for ( PsiMethod method : aClass.getAllMethods() ) {
-                if ( MapstructUtil.isMappingMethod( method ) ) {
-                    holder.registerProblem(
-                        aClass.getNameIdentifier(),
-                        MapStructBundle.message( "inspection.missing.annotation" ),
-                        new AddAnnotationPsiFix(
-                            MapstructUtil.MAPPER_ANNOTATION_FQN,
-                            aClass,
-                            PsiNameValuePair.EMPTY_ARRAY
-                        ),
-                        new AddAnnotationPsiFix(
-                            MapstructUtil.MAPPER_CONFIG_ANNOTATION_FQN,
-                            aClass,
-                            PsiNameValuePair.EMPTY_ARRAY
-                        )
-                    );
-                    break;
+            if ( !InheritanceUtil.processSupers( aClass, true, superClass -> !hasMappingMethods( superClass ) ) ) {
+                holder.registerProblem(
+                    aClass.getNameIdentifier(),
+                    MapStructBundle.message( "inspection.missing.annotation" ),
+                    new AddAnnotationPsiFix(
+                        MapstructUtil.MAPPER_ANNOTATION_FQN,
+                        aClass,
+                        PsiNameValuePair.EMPTY_ARRAY
+                    ),
+                    new AddAnnotationPsiFix(
+                        MapstructUtil.MAPPER_CONFIG_ANNOTATION_FQN,
+                        aClass,
+                        PsiNameValuePair.EMPTY_ARRAY
+                    )
+                );
+            }
+        }
+
+        /**
+         * Checks if the {@code psiClass} declares mapping methods. Only classes that are in the {@link MapperIndex}
+         * can declare them, so the methods of all other classes (e.g. the JDK and framework super classes) are never
+         * looked at.
+         *
+         * @param psiClass the class to be checked
+         *
+         * @return {@code true} if the {@code psiClass} declares at least one mapping method
+         */
+        private static boolean hasMappingMethods(@NotNull PsiClass psiClass) {
+            String qualifiedName = psiClass.getQualifiedName();
+            if ( qualifiedName == null || psiClass instanceof PsiCompiledElement ) {
+                return false;
+            }
+
+            GlobalSearchScope scope = GlobalSearchScope.allScope( psiClass.getProject() );
+            for ( MapperInfo mapperInfo : MapperIndex.getMapperInfos( qualifiedName, scope ) ) {
+                if ( mapperInfo.getKind() == MapperInfo.Kind.OTHER ) {
+                    // only the annotated methods of classes that are not mappers are indexed
+                    if ( !mapperInfo.getMappingMethods().isEmpty() ) {
+                        return true;
+                    }
+                }
+                else if ( Stream.of( psiClass.getMethods() ).anyMatch( MapstructUtil::isMappingMethod ) ) {
+                    return true;
                 }
             }
+            return false;
         }
     }
 }
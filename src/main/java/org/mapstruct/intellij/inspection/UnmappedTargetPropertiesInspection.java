@@ -18,12 +18,18 @@
  */
 package org.mapstruct.intellij.inspection;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
-import java.util.function.Supplier;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import com.intellij.codeInspection.LocalQuickFixOnPsiElement;
+import com.intellij.codeInspection.ProblemHighlightType;
 import com.intellij.codeInspection.ProblemsHolder;
 import com.intellij.openapi.project.Project;
 import com.intellij.psi.JavaElementVisitor;
@@ -35,20 +41,22 @@
 import com.intellij.psi.PsiFile;
 import com.intellij.psi.PsiMethod;
 import com.intellij.psi.PsiModifierListOwner;
+import com.intellij.psi.PsiParameter;
 import com.intellij.psi.util.PsiUtil;
 import org.jetbrains.annotations.Nls;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import org.mapstruct.ReportingPolicy;
 import org.mapstruct.intellij.MapStructBundle;
+import org.mapstruct.intellij.util.MappingConfiguration;
 import org.mapstruct.intellij.util.MapstructUtil;
+import org.mapstruct.intellij.util.PropertyModel;
+import org.mapstruct.intellij.util.SourceUtils;
 import org.mapstruct.intellij.util.TargetUtils;
 
-import static org.mapstruct.intellij.util.MapstructAnnotationUtils.addMappingAnnotation;
-import static org.mapstruct.intellij.util.MapstructUtil.isInheritInverseConfiguration;
+import static org.mapstruct.intellij.util.MapstructAnnotationUtils.addMappingAnnotations;
 import static org.mapstruct.intellij.util.MapstructUtil.isMapper;
 import static org.mapstruct.intellij.util.MapstructUtil.isMapperConfig;
-import static org.mapstruct.intellij.util.SourceUtils.findAllSourceProperties;
-import static org.mapstruct.intellij.util.TargetUtils.findAllTargetProperties;
 
 /**
  * Inspection that checks if there are unmapped target properties.
@@ -56,6 +64,7 @@
  * @author Filip Hrisafov
  */
 public class UnmappedTargetPropertiesInspection extends InspectionBase {
+
     @NotNull
     @Override
     PsiElementVisitor buildVisitorInternal(@NotNull ProblemsHolder holder, boolean isOnTheFly) {
@@ -78,41 +87,44 @@ public void visitMethod(PsiMethod method) {
                 return;
             }
 
-            Set<String> allTargetProperties = findAllTargetProperties( targetClass )
-                .collect( Collectors.toSet() );
-
-            // find and remove all defined mapping targets
-            Set<String> definedTargets = TargetUtils.findAllDefinedMappingTargets( method )
-                .collect( Collectors.toSet() );
-            allTargetProperties.removeAll( definedTargets );
-
-            //TODO maybe we need to improve this by more granular extraction
-            Set<String> sourceProperties = findAllSourceProperties( method )
-                .collect( Collectors.toSet() );
-            allTargetProperties.removeAll( sourceProperties );
+            ReportingPolicy unmappedTargetPolicy = MappingConfiguration.getInstance( method ).getUnmappedTargetPolicy();
+            if ( unmappedTargetPolicy == ReportingPolicy.IGNORE ) {
+                return;
+            }
 
-            int missingTargetProperties = allTargetProperties.size();
+            List<String> unmappedTargetProperties = TargetUtils.findUnmappedTargetProperties( method, targetClass );
+            int missingTargetProperties = unmappedTargetProperties.size();
             if ( missingTargetProperties > 0 ) {
                 String messageKey = missingTargetProperties == 1 ? "inspection.unmapped.target.property" :
                     "inspection.unmapped.target.properties.list";
                 String descriptionTemplate = MapStructBundle.message(
                     messageKey,
-                    allTargetProperties.stream()
-                        .sorted()
-                        .collect( Collectors.joining( ", " ) )
+                    String.join( ", ", unmappedTargetProperties )
                 );
-                UnmappedTargetPropertyFix[] quickFixes = allTargetProperties.stream()
-                    .sorted()
+                List<UnmappedTargetPropertyFix> quickFixes = unmappedTargetProperties.stream()
                     .flatMap( property -> Stream.of(
                         createAddIgnoreUnmappedTargetPropertyFix( method, property ),
                         createAddUnmappedTargetPropertyFix( method, property )
                     ) )
-                    .toArray( UnmappedTargetPropertyFix[]::new );
+                    .collect( Collectors.toCollection( ArrayList::new ) );
+                if ( missingTargetProperties > 1 ) {
+                    quickFixes.add( createAddIgnoreAllUnmappedTargetPropertiesFix( method, unmappedTargetProperties ) );
+                    quickFixes.add( createAddAllUnmappedTargetPropertiesFix( method, unmappedTargetProperties ) );
+                    if ( MapstructUtil.getSourceParameters( method ).length == 1 ) {
+                        // The similarly named sources are only looked for when the fix is shown or invoked
+                        quickFixes.add( new SimilarlyNamedUnmappedTargetPropertiesFix(
+                            method,
+                            unmappedTargetProperties
+                        ) );
+                    }
+                }
                 //noinspection ConstantConditions
                 holder.registerProblem(
                     method.getNameIdentifier(),
                     descriptionTemplate,
-                    quickFixes
+                    unmappedTargetPolicy == ReportingPolicy.ERROR ? ProblemHighlightType.GENERIC_ERROR :
+                        ProblemHighlightType.GENERIC_ERROR_OR_WARNING,
+                    quickFixes.toArray( new UnmappedTargetPropertyFix[0] )
                 );
             }
         }
@@ -124,9 +136,6 @@ public void visitMethod(PsiMethod method) {
          */
         @Nullable
         private static PsiClass getTargetClass(PsiMethod method) {
-            if ( isInheritInverseConfiguration( method ) ) {
-                return null;
-            }
             PsiClass containingClass = method.getContainingClass();
 
             if ( containingClass == null
@@ -146,16 +155,16 @@ private static class UnmappedTargetPropertyFix extends LocalQuickFixOnPsiElement
 
         private final String myText;
         private final String myFamilyName;
-        private final Supplier<PsiAnnotation> myAnnotationSupplier;
+        private final Function<PsiMethod, List<PsiAnnotation>> myAnnotationsFactory;
 
         private UnmappedTargetPropertyFix(@NotNull PsiMethod modifierListOwner,
             @NotNull String text,
             @NotNull String familyName,
-            @NotNull Supplier<PsiAnnotation> annotationSupplier) {
+            @NotNull Function<PsiMethod, List<PsiAnnotation>> annotationsFactory) {
             super( modifierListOwner );
             myText = text;
             myFamilyName = familyName;
-            myAnnotationSupplier = annotationSupplier;
+            myAnnotationsFactory = annotationsFactory;
         }
 
         @NotNull
@@ -193,11 +202,44 @@ public void invoke(@NotNull Project project,
             @NotNull PsiElement endElement) {
             PsiMethod mappingMethod = (PsiMethod) startElement;
 
-            addMappingAnnotation( project, mappingMethod, myAnnotationSupplier.get() );
+            // All the annotations are created up front and added in a single write command
+            addMappingAnnotations( project, mappingMethod, myAnnotationsFactory.apply( mappingMethod ) );
         }
 
     }
 
+    /**
+     * Fix that maps the unmapped target properties from the similarly named source properties. The similar source
+     * properties are looked for when the fix is shown or invoked, and not on every highlighting pass.
+     */
+    private static class SimilarlyNamedUnmappedTargetPropertiesFix extends UnmappedTargetPropertyFix {
+
+        private final List<String> myTargets;
+
+        private SimilarlyNamedUnmappedTargetPropertiesFix(@NotNull PsiMethod method, @NotNull List<String> targets) {
+            super(
+                method,
+                MapStructBundle.message( "inspection.add.similarly.named.unmapped.target.properties" ),
+                MapStructBundle.message( "intention.add.similarly.named.unmapped.target.properties" ),
+                mappingMethod -> findSimilarlyNamedSources( mappingMethod, targets ).entrySet()
+                    .stream()
+                    .map( entry -> createMappingAnnotation(
+                        mappingMethod,
+                        "target = \"" + entry.getKey() + "\", source = \"" + entry.getValue() + "\""
+                    ) )
+                    .collect( Collectors.toList() )
+            );
+            myTargets = targets;
+        }
+
+        @Override
+        public boolean isAvailable(@NotNull Project project, @NotNull PsiFile file, @NotNull PsiElement startElement,
+            @NotNull PsiElement endElement) {
+            return super.isAvailable( project, file, startElement, endElement )
+                && !findSimilarlyNamedSources( (PsiMethod) startElement, myTargets ).isEmpty();
+        }
+    }
+
     /**
      * Add unmapped property fix. Property fix that adds a {@link org.mapstruct.Mapping} annotation with the
      * given {@code target}
@@ -208,15 +250,14 @@ public void invoke(@NotNull Project project,
      * @return the Local Quick fix
      */
     private static UnmappedTargetPropertyFix createAddUnmappedTargetPropertyFix(PsiMethod method, String target) {
-        String fqn = MapstructUtil.MAPPING_ANNOTATION_FQN;
-        Supplier<PsiAnnotation> annotationSupplier = () -> JavaPsiFacade.getElementFactory( method.getProject() )
-            .createAnnotationFromText( "@" + fqn + "(target = \"" + target + "\", source=\"\")", null );
+        Function<PsiMethod, List<PsiAnnotation>> annotationsFactory = mappingMethod -> Collections.singletonList(
+            createMappingAnnotation( mappingMethod, "target = \"" + target + "\", source=\"\"" ) );
         String message = MapStructBundle.message( "inspection.add.unmapped.target.property", target );
         return new UnmappedTargetPropertyFix(
             method,
             message,
             MapStructBundle.message( "intention.add.unmapped.target.property" ),
-            annotationSupplier
+            annotationsFactory
         );
     }
 
@@ -230,15 +271,143 @@ private static UnmappedTargetPropertyFix createAddUnmappedTargetPropertyFix(PsiM
      * @return the Local Quick fix
      */
     private static UnmappedTargetPropertyFix createAddIgnoreUnmappedTargetPropertyFix(PsiMethod method, String target) {
-        String fqn = MapstructUtil.MAPPING_ANNOTATION_FQN;
-        Supplier<PsiAnnotation> annotationSupplier = () -> JavaPsiFacade.getElementFactory( method.getProject() )
-            .createAnnotationFromText( "@" + fqn + "(target = \"" + target + "\", ignore= true)", null );
+        Function<PsiMethod, List<PsiAnnotation>> annotationsFactory = mappingMethod -> Collections.singletonList(
+            createMappingAnnotation( mappingMethod, "target = \"" + target + "\", ignore= true" ) );
         String message = MapStructBundle.message( "inspection.add.ignore.unmapped.target.property", target );
         return new UnmappedTargetPropertyFix(
             method,
             message,
             MapStructBundle.message( "intention.add.ignore.unmapped.target.property" ),
-            annotationSupplier
+            annotationsFactory
+        );
+    }
+
+    /**
+     * Add ignore all unmapped properties fix. Property fix that adds a {@link org.mapstruct.Mapping} annotation that
+     * ignores each of the given {@code targets}.
+     *
+     * @param method the method to which the properties need to be added
+     * @param targets the names of the unmapped target properties
+     *
+     * @return the Local Quick fix
+     */
+    private static UnmappedTargetPropertyFix createAddIgnoreAllUnmappedTargetPropertiesFix(PsiMethod method,
+        List<String> targets) {
+        Function<PsiMethod, List<PsiAnnotation>> annotationsFactory = mappingMethod -> targets.stream()
+            .map( target -> createMappingAnnotation( mappingMethod, "target = \"" + target + "\", ignore= true" ) )
+            .collect( Collectors.toList() );
+        return new UnmappedTargetPropertyFix(
+            method,
+            MapStructBundle.message( "inspection.add.ignore.all.unmapped.target.properties" ),
+            MapStructBundle.message( "intention.add.ignore.all.unmapped.target.properties" ),
+            annotationsFactory
+        );
+    }
+
+    /**
+     * Add all unmapped properties fix. Property fix that adds a {@link org.mapstruct.Mapping} annotation with an
+     * empty source for each of the given {@code targets}.
+     *
+     * @param method the method to which the properties need to be added
+     * @param targets the names of the unmapped target properties
+     *
+     * @return the Local Quick fix
+     */
+    private static UnmappedTargetPropertyFix createAddAllUnmappedTargetPropertiesFix(PsiMethod method,
+        List<String> targets) {
+        Function<PsiMethod, List<PsiAnnotation>> annotationsFactory = mappingMethod -> targets.stream()
+            .map( target -> createMappingAnnotation( mappingMethod, "target = \"" + target + "\", source=\"\"" ) )
+            .collect( Collectors.toList() );
+        return new UnmappedTargetPropertyFix(
+            method,
+            MapStructBundle.message( "inspection.add.all.unmapped.target.properties" ),
+            MapStructBundle.message( "intention.add.all.unmapped.target.properties" ),
+            annotationsFactory
         );
     }
+
+    /**
+     * Find the similarly named source property for the unmapped target properties. This is only done when the
+     * method has a single source parameter. The names are split into their words (camel case or underscores), and a
+     * source property is similar to a target property when the words of one of them are equal to the words of the
+     * other, or to its first or last words, e.g. {@code name} and {@code testName}. Source properties that are target
+     * properties themselves are not taken into consideration, and a target property is only matched when there is
+     * exactly one similar source property.
+     *
+     * @param method the mapping method
+     * @param targets the names of the unmapped target properties
+     *
+     * @return the similarly named source property for each unmapped target property that has one, in the order of
+     * the {@code targets}
+     */
+    private static Map<String, String> findSimilarlyNamedSources(PsiMethod method, List<String> targets) {
+        PsiParameter[] sourceParameters = MapstructUtil.getSourceParameters( method );
+        PsiClass targetClass = TargetUtils.getRelevantClass( method );
+        PsiClass sourceClass = sourceParameters.length == 1 ?
+            SourceUtils.getParameterClass( sourceParameters[0] ) : null;
+        if ( targetClass == null || sourceClass == null ) {
+            return Collections.emptyMap();
+        }
+
+        Set<String> targetProperties = PropertyModel.getInstance( targetClass, method ).getWritePropertyNames();
+        Map<String, List<String>> sourceWords = new LinkedHashMap<>();
+        for ( String source : PropertyModel.getInstance( sourceClass, method ).getReadPropertyNames() ) {
+            if ( !targetProperties.contains( source ) ) {
+                sourceWords.put( source, splitIntoWords( source ) );
+            }
+        }
+
+        Map<String, String> similarSources = new LinkedHashMap<>();
+        for ( String target : targets ) {
+            List<String> targetWords = splitIntoWords( target );
+            List<String> candidates = sourceWords.entrySet()
+                .stream()
+                .filter( entry -> isSimilar( targetWords, entry.getValue() ) )
+                .map( Map.Entry::getKey )
+                .collect( Collectors.toList() );
+            if ( candidates.size() == 1 ) {
+                similarSources.put( target, candidates.get( 0 ) );
+            }
+        }
+        return similarSources;
+    }
+
+    private static boolean isSimilar(List<String> targetWords, List<String> sourceWords) {
+        List<String> shorter = targetWords.size() <= sourceWords.size() ? targetWords : sourceWords;
+        List<String> longer = shorter == targetWords ? sourceWords : targetWords;
+        return !shorter.isEmpty() && ( longer.subList( 0, shorter.size() ).equals( shorter )
+            || longer.subList( longer.size() - shorter.size(), longer.size() ).equals( shorter ) );
+    }
+
+    /**
+     * @param propertyName the name of a property
+     *
+     * @return the lower case words of the {@code propertyName}, split at underscores and camel case humps
+     */
+    private static List<String> splitIntoWords(String propertyName) {
+        List<String> words = new ArrayList<>();
+        StringBuilder word = new StringBuilder();
+        for ( int i = 0; i < propertyName.length(); i++ ) {
+            char c = propertyName.charAt( i );
+            if ( c == '_' || ( Character.isUpperCase( c ) && i > 0
+                && !Character.isUpperCase( propertyName.charAt( i - 1 ) ) ) ) {
+                if ( word.length() > 0 ) {
+                    words.add( word.toString() );
+                    word.setLength( 0 );
+                }
+            }
+            if ( c != '_' ) {
+                word.append( Character.toLowerCase( c ) );
+            }
+        }
+        if ( word.length() > 0 ) {
+            words.add( word.toString() );
+        }
+        return words;
+    }
+
+    private static PsiAnnotation createMappingAnnotation(PsiMethod method, String attributes) {
+        return JavaPsiFacade.getElementFactory( method.getProject() )
+            .createAnnotationFromText( "@" + MapstructUtil.MAPPING_ANNOTATION_FQN + "(" + attributes + ")", null );
+    }
 }
@@ -29,6 +29,7 @@
 
 import static com.intellij.patterns.StandardPatterns.or;
 import static org.mapstruct.intellij.util.MapstructElementUtils.mappingElementPattern;
+import static org.mapstruct.intellij.util.MapstructUtil.isMapStructPresent;
 
 /**
  * @author Filip Hrisafov
@@ -42,8 +43,10 @@ public class MapstructSourceTargetParameterRenameHandler extends PsiElementRenam
 
     @Override
     public boolean isAvailableOnDataContext(DataContext dataContext) {
-        return MAPPING_SOURCE_OR_TARGET.accepts( findNameSuggestionContext( dataContext ) )
-            && getElement( dataContext ) instanceof PsiMethod
+        PsiElement element = getElement( dataContext );
+        return element instanceof PsiMethod
+            && isMapStructPresent( element.getProject() )
+            && MAPPING_SOURCE_OR_TARGET.accepts( findNameSuggestionContext( dataContext ) )
             && super.isAvailableOnDataContext( dataContext );
     }
 
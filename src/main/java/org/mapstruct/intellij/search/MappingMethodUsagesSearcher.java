@@ -18,16 +18,24 @@
  */
 package org.mapstruct.intellij.search;
 
+import java.util.Collection;
+
 import com.intellij.openapi.application.QueryExecutorBase;
 import com.intellij.openapi.project.DumbService;
+import com.intellij.openapi.project.Project;
 import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.patterns.ElementPattern;
 import com.intellij.psi.PsiAnonymousClass;
 import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiLiteral;
 import com.intellij.psi.PsiMethod;
 import com.intellij.psi.PsiModifier;
 import com.intellij.psi.PsiReference;
 import com.intellij.psi.impl.search.MethodTextOccurrenceProcessor;
 import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.search.RequestResultProcessor;
 import com.intellij.psi.search.SearchRequestCollector;
 import com.intellij.psi.search.SearchScope;
 import com.intellij.psi.search.UsageSearchContext;
@@ -35,7 +43,12 @@
 import com.intellij.psi.search.searches.ReferencesSearch;
 import com.intellij.util.Processor;
 import org.jetbrains.annotations.NotNull;
-import org.mapstruct.intellij.util.MapstructUtil;
+import org.mapstruct.intellij.index.MappingPropertyIndex;
+import org.mapstruct.intellij.util.AccessorNaming;
+
+import static com.intellij.patterns.StandardPatterns.or;
+import static org.mapstruct.intellij.util.MapstructElementUtils.mappingElementPattern;
+import static org.mapstruct.intellij.util.MapstructUtil.isMapStructPresent;
 
 /**
  * Methods usages searcher for {@code source} and {@code target} values in {@code @Mapping} annotation.
@@ -61,10 +74,10 @@ public void processQuery(@NotNull final MethodReferencesSearch.SearchParameters
 
         final PsiClass aClass = DumbService.getInstance( p.getProject() ).runReadActionInSmartMode( () -> {
             PsiClass aClass1 = method.getContainingClass();
-            if ( aClass1 == null ) {
+            if ( aClass1 == null || !isMapStructPresent( p.getProject() ) ) {
                 return null;
             }
-            propertyName[0] = MapstructUtil.getPropertyName( method );
+            propertyName[0] = AccessorNaming.of( method ).getPropertyName( method );
             needStrictSignatureSearch[0] = strictSignatureSearch && ( aClass1 instanceof PsiAnonymousClass
                 || aClass1.hasModifierProperty( PsiModifier.FINAL )
                 || method.hasModifierProperty( PsiModifier.STATIC )
@@ -94,16 +107,20 @@ public void processQuery(@NotNull final MethodReferencesSearch.SearchParameters
         }
 
         DumbService.getInstance( p.getProject() ).runReadActionInSmartMode( () -> {
+            SearchScope propertyScope = restrictToFilesWithProperty( p.getProject(), propertyName[0], searchScope );
+            if ( propertyScope == GlobalSearchScope.EMPTY_SCOPE ) {
+                return null;
+            }
+
             final PsiMethod[] methods =
                 strictSignatureSearch ? new PsiMethod[] { method } : aClass.findMethodsByName( propertyName[0], false );
 
-            short searchContext =
-                UsageSearchContext.IN_CODE | UsageSearchContext.IN_COMMENTS | UsageSearchContext.IN_FOREIGN_LANGUAGES;
+            // The property names can only be used within string literals of the MapStruct annotations
             for ( PsiMethod m : methods ) {
                 collector.searchWord(
                     propertyName[0],
-                    searchScope.intersectWith( m.getUseScope() ),
-                    searchContext,
+                    propertyScope.intersectWith( m.getUseScope() ),
+                    UsageSearchContext.IN_STRINGS,
                     true,
                     m,
                     getTextOccurrenceProcessor( new PsiMethod[] { m }, aClass, strictSignatureSearch )
@@ -114,8 +131,64 @@ public void processQuery(@NotNull final MethodReferencesSearch.SearchParameters
         } );
     }
 
-    protected MethodTextOccurrenceProcessor getTextOccurrenceProcessor(PsiMethod[] methods, PsiClass aClass,
+    /**
+     * Restrict the {@code searchScope} to the files that contain a {@link org.mapstruct.Mapping} that uses the
+     * {@code propertyName}. Local scopes are returned as is, as they are already small enough.
+     *
+     * @param project the project
+     * @param propertyName the name of the property
+     * @param searchScope the scope that needs to be restricted
+     *
+     * @return the restricted scope, or {@link GlobalSearchScope#EMPTY_SCOPE} if no file uses the property
+     */
+    private static SearchScope restrictToFilesWithProperty(Project project, String propertyName,
+        SearchScope searchScope) {
+        if ( !( searchScope instanceof GlobalSearchScope ) ) {
+            return searchScope;
+        }
+
+        Collection<VirtualFile> files = MappingPropertyIndex.getFilesWithProperty(
+            propertyName,
+            (GlobalSearchScope) searchScope
+        );
+        if ( files.isEmpty() ) {
+            return GlobalSearchScope.EMPTY_SCOPE;
+        }
+        return GlobalSearchScope.filesScope( project, files );
+    }
+
+    protected RequestResultProcessor getTextOccurrenceProcessor(PsiMethod[] methods, PsiClass aClass,
         boolean strictSignatureSearch) {
-        return new MethodTextOccurrenceProcessor( aClass, strictSignatureSearch, methods );
+        return new MappingTextOccurrenceProcessor(
+            new MethodTextOccurrenceProcessor( aClass, strictSignatureSearch, methods )
+        );
+    }
+
+    /**
+     * A {@link RequestResultProcessor} that only looks at the {@code source} and {@code target} values of the
+     * {@link org.mapstruct.Mapping} annotation.
+     */
+    private static class MappingTextOccurrenceProcessor extends RequestResultProcessor {
+
+        private static final ElementPattern<PsiElement> MAPPING_SOURCE_OR_TARGET = or(
+            mappingElementPattern( "source" ),
+            mappingElementPattern( "target" )
+        );
+
+        private final RequestResultProcessor delegate;
+
+        private MappingTextOccurrenceProcessor(RequestResultProcessor delegate) {
+            super( delegate );
+            this.delegate = delegate;
+        }
+
+        @Override
+        public boolean processTextOccurrence(@NotNull PsiElement element, int offsetInElement,
+            @NotNull Processor<PsiReference> consumer) {
+            if ( !( element instanceof PsiLiteral ) || !MAPPING_SOURCE_OR_TARGET.accepts( element ) ) {
+                return true;
+            }
+            return delegate.processTextOccurrence( element, offsetInElement, consumer );
+        }
     }
 }
@@ -0,0 +1,281 @@
+/*
+ *  Copyright 2017 the MapStruct authors (http://www.mapstruct.org/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.intellij.util;
+
+import java.beans.Introspector;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import com.intellij.openapi.fileEditor.impl.LoadTextUtil;
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.module.ModuleUtilCore;
+import com.intellij.openapi.roots.ProjectRootManager;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.openapi.vfs.VirtualFileManager;
+import com.intellij.psi.CommonClassNames;
+import com.intellij.psi.JavaPsiFacade;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiMethod;
+import com.intellij.psi.PsiModifier;
+import com.intellij.psi.PsiType;
+import com.intellij.psi.search.FilenameIndex;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.InheritanceUtil;
+import com.intellij.psi.util.PsiUtil;
+import com.intellij.util.containers.ContainerUtil;
+import org.jetbrains.annotations.NonNls;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The accessor naming conventions that MapStruct uses for a module. This mirrors the
+ * {@code org.mapstruct.ap.spi.AccessorNamingStrategy} that is registered for the module.
+ * <p>
+ * The plugin cannot run the registered strategy, it only classifies it. A strategy that changes how getters are
+ * detected (overrides {@code isGetterMethod}) is treated as a fluent strategy, every other module uses the JavaBeans
+ * conventions. The classification is cached per module, the accessors themselves are classified once per class
+ * within the {@link PropertyModel}.
+ *
+ * @author Filip Hrisafov
+ */
+public enum AccessorNaming {
+
+    /**
+     * The JavaBeans conventions ({@code getX()}, {@code isX()}, {@code setX(x)}).
+     */
+    DEFAULT {
+        @Override
+        public boolean isGetter(@NotNull PsiMethod method) {
+            return MapstructUtil.isGetter( method );
+        }
+
+        @Override
+        public boolean isSetter(@NotNull PsiMethod method) {
+            return MapstructUtil.isSetter( method );
+        }
+
+        @NotNull
+        @Override
+        public String getPropertyName(@NotNull String methodName) {
+            return MapstructUtil.getPropertyName( methodName );
+        }
+    },
+
+    /**
+     * Fluent accessors: every public instance method without parameters that returns something is a getter, and
+     * every public instance method with one parameter that returns nothing or the type itself is a setter. The
+     * methods of {@link Object} are never accessors. The {@code get}, {@code is} and {@code set} prefixes are still
+     * recognized.
+     */
+    FLUENT {
+        @Override
+        public boolean isGetter(@NotNull PsiMethod method) {
+            PsiType returnType = method.getReturnType();
+            return method.getParameterList().getParametersCount() == 0
+                && returnType != null
+                && !PsiType.VOID.equals( returnType )
+                && !isObjectMethod( method );
+        }
+
+        @Override
+        public boolean isSetter(@NotNull PsiMethod method) {
+            if ( method.getParameterList().getParametersCount() != 1 || isObjectMethod( method ) ) {
+                return false;
+            }
+            PsiType returnType = method.getReturnType();
+            if ( returnType == null || PsiType.VOID.equals( returnType ) ) {
+                return true;
+            }
+            PsiClass returnClass = PsiUtil.resolveClassInType( returnType );
+            PsiClass containingClass = method.getContainingClass();
+            return returnClass != null && containingClass != null
+                && InheritanceUtil.isInheritorOrSelf( containingClass, returnClass, true );
+        }
+
+        @NotNull
+        @Override
+        public String getPropertyName(@NotNull String methodName) {
+            if ( hasPrefix( methodName, "get" ) || hasPrefix( methodName, "set" ) ) {
+                return Introspector.decapitalize( methodName.substring( 3 ) );
+            }
+            else if ( hasPrefix( methodName, "is" ) ) {
+                return Introspector.decapitalize( methodName.substring( 2 ) );
+            }
+            return methodName;
+        }
+    };
+
+    /**
+     * The name of the service file with which an {@code AccessorNamingStrategy} is registered.
+     */
+    static final String STRATEGY_SERVICE_FILE = "org.mapstruct.ap.spi.AccessorNamingStrategy";
+    private static final String SPI_PACKAGE = "org.mapstruct.ap.spi.";
+    private static final Set<String> OBJECT_METHODS = ContainerUtil.immutableSet(
+        "clone",
+        "equals",
+        "finalize",
+        "getClass",
+        "hashCode",
+        "notify",
+        "notifyAll",
+        "toString",
+        "wait"
+    );
+
+    /**
+     * @param method the method to check
+     *
+     * @return {@code true} if the {@code method} reads a property, {@code false} otherwise
+     */
+    public abstract boolean isGetter(@NotNull PsiMethod method);
+
+    /**
+     * @param method the method to check
+     *
+     * @return {@code true} if the {@code method} writes a property, {@code false} otherwise
+     */
+    public abstract boolean isSetter(@NotNull PsiMethod method);
+
+    /**
+     * @param methodName the name of an accessor
+     *
+     * @return the name of the property for the accessor with the given {@code methodName}
+     */
+    @NotNull
+    @NonNls
+    public abstract String getPropertyName(@NotNull String methodName);
+
+    /**
+     * @param accessor a getter or a setter
+     *
+     * @return the name of the property for the {@code accessor}
+     */
+    @NotNull
+    @NonNls
+    public String getPropertyName(@NotNull PsiMethod accessor) {
+        return getPropertyName( accessor.getName() );
+    }
+
+    /**
+     * Get the accessor naming for the module of the {@code context}.
+     *
+     * @param context the element for which the naming is needed (a mapping method, a literal in a mapping etc.)
+     *
+     * @return the accessor naming for the module of the {@code context}, {@link #DEFAULT} if the {@code context} is
+     * not within a module
+     */
+    @NotNull
+    public static AccessorNaming of(@NotNull PsiElement context) {
+        Module module = ModuleUtilCore.findModuleForPsiElement( context );
+        return module == null ? DEFAULT : of( module );
+    }
+
+    /**
+     * Get the accessor naming for the {@code module}. The result is cached until the roots of the project change,
+     * files are added or removed, or the service file or the source of the strategy change.
+     *
+     * @param module the module
+     *
+     * @return the accessor naming for the {@code module}
+     */
+    @NotNull
+    public static AccessorNaming of(@NotNull Module module) {
+        return CachedValuesManager.getManager( module.getProject() ).getCachedValue( module, () -> {
+            List<Object> dependencies = new ArrayList<>();
+            dependencies.add( ProjectRootManager.getInstance( module.getProject() ) );
+            dependencies.add( VirtualFileManager.VFS_STRUCTURE_MODIFICATIONS );
+            AccessorNaming naming = DEFAULT;
+
+            GlobalSearchScope scope = module.getModuleRuntimeScope( false );
+            VirtualFile serviceFile = findServiceFile( module, scope );
+            if ( serviceFile != null ) {
+                dependencies.add( serviceFile );
+                String strategyName = readStrategyName( serviceFile );
+                PsiClass strategy = strategyName == null ? null :
+                    JavaPsiFacade.getInstance( module.getProject() ).findClass( strategyName, scope );
+                if ( strategy != null ) {
+                    dependencies.add( strategy.getContainingFile() );
+                    naming = overridesGetterDetection( strategy ) ? FLUENT : DEFAULT;
+                }
+            }
+
+            return CachedValueProvider.Result.create( naming, dependencies );
+        } );
+    }
+
+    @Nullable
+    private static VirtualFile findServiceFile(@NotNull Module module, @NotNull GlobalSearchScope scope) {
+        for ( VirtualFile file : FilenameIndex.getVirtualFilesByName(
+            module.getProject(),
+            STRATEGY_SERVICE_FILE,
+            scope
+        ) ) {
+            VirtualFile services = file.getParent();
+            VirtualFile metaInf = services == null ? null : services.getParent();
+            if ( metaInf != null && "services".equals( services.getName() )
+                && "META-INF".equals( metaInf.getName() ) ) {
+                return file;
+            }
+        }
+        return null;
+    }
+
+    @Nullable
+    private static String readStrategyName(@NotNull VirtualFile serviceFile) {
+        for ( String line : StringUtil.splitByLines( LoadTextUtil.loadText( serviceFile ).toString() ) ) {
+            String name = StringUtil.substringBefore( line, "#" );
+            name = ( name == null ? line : name ).trim();
+            if ( !name.isEmpty() ) {
+                return name;
+            }
+        }
+        return null;
+    }
+
+    private static boolean overridesGetterDetection(@NotNull PsiClass strategy) {
+        for ( PsiMethod method : strategy.findMethodsByName( "isGetterMethod", true ) ) {
+            PsiClass containingClass = method.getContainingClass();
+            String qualifiedName = containingClass == null ? null : containingClass.getQualifiedName();
+            if ( qualifiedName != null && !qualifiedName.startsWith( SPI_PACKAGE ) ) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isObjectMethod(@NotNull PsiMethod method) {
+        if ( OBJECT_METHODS.contains( method.getName() ) || method.hasModifierProperty( PsiModifier.STATIC ) ) {
+            return true;
+        }
+        PsiClass containingClass = method.getContainingClass();
+        return containingClass != null
+            && CommonClassNames.JAVA_LANG_OBJECT.equals( containingClass.getQualifiedName() );
+    }
+
+    private static boolean hasPrefix(@NotNull String methodName, @NotNull String prefix) {
+        return methodName.length() > prefix.length()
+            && methodName.startsWith( prefix )
+            && Character.isUpperCase( methodName.charAt( prefix.length() ) );
+    }
+}
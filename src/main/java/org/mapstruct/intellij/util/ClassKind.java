@@ -0,0 +1,96 @@
+/*
+ *  Copyright 2017 the MapStruct authors (http://www.mapstruct.org/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.intellij.util;
+
+import com.intellij.openapi.util.Key;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.PsiModificationTracker;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The kind of a class as far as the discovery of its properties is concerned. The kind is determined once per class
+ * and cached until the Java structure of the project changes, the {@link PropertyModel} uses it to select how the
+ * properties are discovered.
+ *
+ * @author Filip Hrisafov
+ */
+enum ClassKind {
+
+    /**
+     * A class with JavaBeans style accessors, a builder or a constructor with the properties.
+     */
+    BEAN,
+
+    /**
+     * A class whose properties are generated by Lombok, see {@link LombokProperties}.
+     */
+    LOMBOK,
+
+    /**
+     * A Java record. The component accessors are the read properties and the parameters of the canonical
+     * constructor the write properties.
+     */
+    RECORD,
+
+    /**
+     * The light class of a Kotlin data class. The {@code componentN()} and {@code copy(...)} methods are not
+     * accessors and the primary constructor defines the write properties.
+     */
+    KOTLIN_DATA_CLASS;
+
+    private static final String RECORD_FQN = "java.lang.Record";
+    private static final String KOTLIN_LANGUAGE_ID = "kotlin";
+
+    private static final Key<CachedValue<ClassKind>> CLASS_KIND_KEY = Key.create( "MapStruct.ClassKind" );
+
+    /**
+     * @param psiClass the class to be classified
+     *
+     * @return the (cached) kind of the {@code psiClass}
+     */
+    @NotNull
+    static ClassKind of(@NotNull PsiClass psiClass) {
+        return CachedValuesManager.getCachedValue( psiClass, CLASS_KIND_KEY, () -> {
+            ClassKind kind = classify( psiClass );
+            return CachedValueProvider.Result.create( kind, PsiModificationTracker.JAVA_STRUCTURE_MODIFICATION_COUNT );
+        } );
+    }
+
+    @NotNull
+    private static ClassKind classify(@NotNull PsiClass psiClass) {
+        PsiClass superClass = psiClass.getSuperClass();
+        if ( superClass != null && RECORD_FQN.equals( superClass.getQualifiedName() ) ) {
+            return RECORD;
+        }
+
+        if ( KOTLIN_LANGUAGE_ID.equalsIgnoreCase( psiClass.getLanguage().getID() )
+            && psiClass.findMethodsByName( "component1", false ).length > 0
+            && psiClass.findMethodsByName( "copy", false ).length > 0 ) {
+            return KOTLIN_DATA_CLASS;
+        }
+
+        if ( LombokProperties.isApplicable( psiClass ) ) {
+            return LOMBOK;
+        }
+        return BEAN;
+    }
+}
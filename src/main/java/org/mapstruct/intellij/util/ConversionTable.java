@@ -0,0 +1,280 @@
+/*
+ *  Copyright 2017 the MapStruct authors (http://www.mapstruct.org/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.intellij.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.intellij.openapi.roots.ProjectRootManager;
+import com.intellij.openapi.util.Key;
+import com.intellij.openapi.util.Pair;
+import com.intellij.psi.CommonClassNames;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiMethod;
+import com.intellij.psi.PsiPrimitiveType;
+import com.intellij.psi.PsiType;
+import com.intellij.psi.PsiWildcardType;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.InheritanceUtil;
+import com.intellij.psi.util.PsiModificationTracker;
+import com.intellij.psi.util.PsiUtil;
+import com.intellij.psi.util.TypeConversionUtil;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The conversions that are available within a mapper: the built-in conversions of MapStruct and the mapping methods
+ * of the mapper, of its config and of the mappers that it uses.
+ * <p>
+ * The (erased) source and target types of the mapping methods are collected once per mapper, and the result of every
+ * checked pair of types is memoized, so checking a mapping is a hash lookup after the first check of a pair. The
+ * table is cached on the mapper until the Java structure of the project or the project roots change.
+ *
+ * @author Filip Hrisafov
+ */
+public final class ConversionTable {
+
+    private static final Key<CachedValue<ConversionTable>> CONVERSION_TABLE_KEY = Key.create(
+        "MapStruct.ConversionTable" );
+
+    /**
+     * The kinds of types between which MapStruct has built-in conversions.
+     */
+    private enum Category {
+        NUMBER,
+        BOOLEAN,
+        CHARACTER,
+        STRING,
+        DATE_TIME,
+        ENUM,
+        /**
+         * Types that only have a built-in conversion from and to {@link String}.
+         */
+        STRING_ONLY,
+        OTHER
+    }
+
+    private static final String XML_GREGORIAN_CALENDAR = "javax.xml.datatype.XMLGregorianCalendar";
+    private static final String JAXB_ELEMENT = "javax.xml.bind.JAXBElement";
+
+    private static final Map<String, Category> CATEGORIES = new HashMap<>();
+
+    static {
+        for ( String number : new String[] {
+            "byte", "short", "int", "long", "float", "double",
+            CommonClassNames.JAVA_LANG_BYTE, CommonClassNames.JAVA_LANG_SHORT, CommonClassNames.JAVA_LANG_INTEGER,
+            CommonClassNames.JAVA_LANG_LONG, CommonClassNames.JAVA_LANG_FLOAT, CommonClassNames.JAVA_LANG_DOUBLE,
+            "java.math.BigInteger", "java.math.BigDecimal"
+        } ) {
+            CATEGORIES.put( number, Category.NUMBER );
+        }
+        CATEGORIES.put( "boolean", Category.BOOLEAN );
+        CATEGORIES.put( CommonClassNames.JAVA_LANG_BOOLEAN, Category.BOOLEAN );
+        CATEGORIES.put( "char", Category.CHARACTER );
+        CATEGORIES.put( CommonClassNames.JAVA_LANG_CHARACTER, Category.CHARACTER );
+        CATEGORIES.put( CommonClassNames.JAVA_LANG_STRING, Category.STRING );
+        for ( String dateTime : new String[] {
+            CommonClassNames.JAVA_UTIL_DATE, CommonClassNames.JAVA_UTIL_CALENDAR, "java.sql.Date", "java.sql.Time",
+            "java.sql.Timestamp", "java.time.LocalDate", "java.time.LocalTime", "java.time.LocalDateTime",
+            "java.time.ZonedDateTime", "java.time.Instant", "java.time.Duration", "java.time.Period",
+            "org.joda.time.DateTime", "org.joda.time.LocalDate", "org.joda.time.LocalTime",
+            "org.joda.time.LocalDateTime", XML_GREGORIAN_CALENDAR
+        } ) {
+            CATEGORIES.put( dateTime, Category.DATE_TIME );
+        }
+        for ( String stringOnly : new String[] {
+            "java.util.Currency", "java.util.UUID", "java.util.Locale", "java.net.URL", "java.lang.StringBuilder"
+        } ) {
+            CATEGORIES.put( stringOnly, Category.STRING_ONLY );
+        }
+    }
+
+    private final List<Pair<PsiType, PsiType>> mappingMethods;
+    private final ConcurrentMap<Pair<String, String>, Boolean> conversions = new ConcurrentHashMap<>();
+
+    private ConversionTable(List<Pair<PsiType, PsiType>> mappingMethods) {
+        this.mappingMethods = mappingMethods;
+    }
+
+    /**
+     * Get the (cached) conversion table of the mapper of the given {@code mappingMethod}.
+     *
+     * @param mappingMethod a mapping method of the mapper
+     *
+     * @return the conversion table of the mapper that declares the {@code mappingMethod}
+     */
+    @NotNull
+    public static ConversionTable getInstance(@NotNull PsiMethod mappingMethod) {
+        PsiClass mapper = mappingMethod.getContainingClass();
+        if ( mapper == null ) {
+            return new ConversionTable( Collections.emptyList() );
+        }
+
+        return CachedValuesManager.getCachedValue( mapper, CONVERSION_TABLE_KEY, () -> {
+            ConversionTable table = compute( mapper );
+            return CachedValueProvider.Result.create(
+                table,
+                PsiModificationTracker.JAVA_STRUCTURE_MODIFICATION_COUNT,
+                ProjectRootManager.getInstance( mapper.getProject() )
+            );
+        } );
+    }
+
+    @NotNull
+    private static ConversionTable compute(@NotNull PsiClass mapper) {
+        Pair<PsiClass, List<PsiClass>> configAndUses = MappingConfiguration.findConfigAndUses( mapper );
+        List<PsiClass> classes = new ArrayList<>();
+        classes.add( mapper );
+        if ( configAndUses.getFirst() != null ) {
+            classes.add( configAndUses.getFirst() );
+        }
+        classes.addAll( configAndUses.getSecond() );
+
+        Set<Pair<String, String>> seen = new HashSet<>();
+        List<Pair<PsiType, PsiType>> mappingMethods = new ArrayList<>();
+        for ( PsiClass psiClass : classes ) {
+            InheritanceUtil.processSupers( psiClass, true, superClass -> {
+                collectMappingMethods( superClass, seen, mappingMethods );
+                return true;
+            } );
+        }
+        return new ConversionTable( mappingMethods );
+    }
+
+    /**
+     * Collects the methods declared in the {@code psiClass} that can be used as mapping methods. The methods of
+     * {@link Object} are never collected, otherwise e.g. {@code equals(Object)} would map anything into a
+     * {@code boolean}.
+     */
+    private static void collectMappingMethods(@NotNull PsiClass psiClass, @NotNull Set<Pair<String, String>> seen,
+        @NotNull List<Pair<PsiType, PsiType>> mappingMethods) {
+        if ( CommonClassNames.JAVA_LANG_OBJECT.equals( psiClass.getQualifiedName() ) ) {
+            return;
+        }
+
+        for ( PsiMethod method : psiClass.getMethods() ) {
+            if ( method.isConstructor() ) {
+                continue;
+            }
+            Pair<PsiType, PsiType> types = InverseMappings.getSourceAndTargetPsiType( method );
+            if ( types != null ) {
+                PsiType sourceType = TypeConversionUtil.erasure( types.getFirst() );
+                PsiType targetType = TypeConversionUtil.erasure( types.getSecond() );
+                if ( seen.add( Pair.create( sourceType.getCanonicalText(), targetType.getCanonicalText() ) ) ) {
+                    mappingMethods.add( Pair.create( sourceType, targetType ) );
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks if MapStruct can map a value of the {@code sourceType} into the {@code targetType}. This is possible
+     * when the types are assignable, when there is a built-in conversion between the types, when there is a mapping
+     * method for the types, or when both types are beans (or collections) for which MapStruct can generate a mapping
+     * method. A {@code JAXBElement<T>} source is checked as its {@code T}.
+     *
+     * @param sourceType the type of the source
+     * @param targetType the type of the target
+     *
+     * @return {@code true} if the {@code sourceType} can be mapped into the {@code targetType}
+     */
+    public boolean canConvert(@NotNull PsiType sourceType, @NotNull PsiType targetType) {
+        if ( targetType.isAssignableFrom( sourceType ) ) {
+            return true;
+        }
+
+        Pair<String, String> types = Pair.create( getTypeName( sourceType ), getTypeName( targetType ) );
+        if ( JAXB_ELEMENT.equals( types.getFirst() ) ) {
+            // MapStruct unwraps a JAXBElement<T> into its value, so it can be mapped like the T
+            PsiType valueType = PsiUtil.substituteTypeParameter( sourceType, JAXB_ELEMENT, 0, false );
+            if ( valueType instanceof PsiWildcardType ) {
+                valueType = ( (PsiWildcardType) valueType ).getExtendsBound();
+            }
+            if ( valueType != null ) {
+                return canConvert( valueType, targetType );
+            }
+        }
+        return conversions.computeIfAbsent( types, key -> computeCanConvert( key, sourceType, targetType ) );
+    }
+
+    private boolean computeCanConvert(@NotNull Pair<String, String> types, @NotNull PsiType sourceType,
+        @NotNull PsiType targetType) {
+        if ( hasMappingMethod( sourceType, targetType ) ) {
+            return true;
+        }
+
+        Category sourceCategory = getCategory( types.getFirst(), sourceType );
+        Category targetCategory = getCategory( types.getSecond(), targetType );
+        if ( sourceCategory == Category.STRING || targetCategory == Category.STRING ) {
+            return sourceCategory != Category.OTHER && targetCategory != Category.OTHER;
+        }
+        return sourceCategory == targetCategory && sourceCategory != Category.STRING_ONLY;
+    }
+
+    /**
+     * A mapping method can be used when its source parameter accepts the {@code sourceType} and the type that it
+     * returns can be assigned to the {@code targetType}, e.g. a {@code Long toId(BaseEntity entity)} method maps
+     * all the sub types of {@code BaseEntity}.
+     *
+     * @param sourceType the type of the source
+     * @param targetType the type of the target
+     *
+     * @return {@code true} if there is a mapping method that can map the {@code sourceType} into the
+     * {@code targetType}
+     */
+    private boolean hasMappingMethod(@NotNull PsiType sourceType, @NotNull PsiType targetType) {
+        PsiType erasedSourceType = TypeConversionUtil.erasure( sourceType );
+        PsiType erasedTargetType = TypeConversionUtil.erasure( targetType );
+        for ( Pair<PsiType, PsiType> mappingMethod : mappingMethods ) {
+            if ( mappingMethod.getFirst().isAssignableFrom( erasedSourceType )
+                && erasedTargetType.isAssignableFrom( mappingMethod.getSecond() ) ) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @NotNull
+    private static Category getCategory(@NotNull String typeName, @NotNull PsiType type) {
+        Category category = CATEGORIES.get( typeName );
+        if ( category != null ) {
+            return category;
+        }
+        if ( !( type instanceof PsiPrimitiveType ) ) {
+            PsiClass psiClass = PsiUtil.resolveClassInType( type );
+            if ( psiClass != null && psiClass.isEnum() ) {
+                return Category.ENUM;
+            }
+        }
+        return Category.OTHER;
+    }
+
+    @NotNull
+    private static String getTypeName(@NotNull PsiType type) {
+        return TypeConversionUtil.erasure( type ).getCanonicalText();
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ *  Copyright 2017 the MapStruct authors (http://www.mapstruct.org/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.intellij.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.intellij.openapi.util.Key;
+import com.intellij.openapi.util.Pair;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiMethod;
+import com.intellij.psi.PsiParameter;
+import com.intellij.psi.PsiType;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.PsiModificationTracker;
+import com.intellij.psi.util.TypeConversionUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.mapstruct.intellij.index.MapperIndex;
+import org.mapstruct.intellij.index.MappingInfo;
+
+import static org.mapstruct.intellij.util.MapstructUtil.getSourceParameters;
+import static org.mapstruct.intellij.util.MapstructUtil.isInheritInverseConfiguration;
+
+/**
+ * Resolution of the methods that are inherited through {@link org.mapstruct.InheritInverseConfiguration} and of the
+ * targets that their {@code @Mapping}s define for the inverse method.
+ * <p>
+ * The methods of a mapper (or config) are indexed by their source and target type once per class and cached until
+ * the Java structure of the project changes, so resolving the inverse of all the methods of a mapper needs a single
+ * pass over its methods.
+ *
+ * @author Filip Hrisafov
+ */
+final class InverseMappings {
+
+    private static final Key<CachedValue<Map<Pair<String, String>, List<PsiMethod>>>> METHODS_BY_TYPES = Key.create(
+        "MapStruct.MethodsBySourceAndTargetType" );
+
+    private InverseMappings() {
+    }
+
+    /**
+     * Find the method whose configuration is inherited in inverse direction by the {@code method}. The inverse
+     * method maps the target type of the {@code method} into its source type.
+     *
+     * @param method the method that inherits the inverse configuration
+     * @param name the name of the inverse method, or an empty string if it should be selected by its types only
+     * @param classes the classes in which the inverse method is searched
+     *
+     * @return the inverse method, or {@code null} if there is no single candidate
+     */
+    @Nullable
+    static PsiMethod findInverse(@NotNull PsiMethod method, @NotNull String name,
+        @NotNull Collection<PsiClass> classes) {
+        Pair<String, String> types = getSourceAndTargetType( method );
+        if ( types == null ) {
+            return null;
+        }
+
+        Pair<String, String> inverseTypes = Pair.create( types.getSecond(), types.getFirst() );
+        List<PsiMethod> candidates = classes.stream()
+            .flatMap( psiClass -> getMethodsByTypes( psiClass )
+                .getOrDefault( inverseTypes, Collections.emptyList() )
+                .stream() )
+            .filter( candidate -> !candidate.equals( method ) )
+            .filter( candidate -> name.isEmpty() || name.equals( candidate.getName() ) )
+            .distinct()
+            .collect( Collectors.toList() );
+        return candidates.size() == 1 ? candidates.get( 0 ) : null;
+    }
+
+    /**
+     * Find the targets that the {@code @Mapping}s of the {@code inverse} method define when they are inverted. The
+     * source of a mapping becomes the target of the inverted mapping, mappings that are ignored or that use a
+     * constant or an expression are not inverted.
+     *
+     * @param inverse the method whose mappings are inverted
+     *
+     * @return the targets of the inverted mappings
+     */
+    @NotNull
+    static Stream<String> findInvertedTargets(@NotNull PsiMethod inverse) {
+        PsiParameter[] sourceParameters = getSourceParameters( inverse );
+        String parameterPrefix = sourceParameters.length == 1 ? sourceParameters[0].getName() + "." : null;
+        return MapperIndex.findMappings( inverse ).stream()
+            .filter( mapping -> !mapping.isIgnore() )
+            .filter( mapping -> mapping.getConstant() == null )
+            .filter( mapping -> mapping.getExpression() == null )
+            .map( MappingInfo::getSource )
+            .filter( Objects::nonNull )
+            .map( source -> parameterPrefix != null && source.startsWith( parameterPrefix ) ?
+                source.substring( parameterPrefix.length() ) : source )
+            .filter( source -> !source.isEmpty() );
+    }
+
+    @NotNull
+    private static Map<Pair<String, String>, List<PsiMethod>> getMethodsByTypes(@NotNull PsiClass psiClass) {
+        return CachedValuesManager.getCachedValue( psiClass, METHODS_BY_TYPES, () -> {
+            Map<Pair<String, String>, List<PsiMethod>> methodsByTypes = new HashMap<>();
+            for ( PsiMethod method : psiClass.getAllMethods() ) {
+                if ( method.isConstructor() || isInheritInverseConfiguration( method ) ) {
+                    continue;
+                }
+                Pair<String, String> types = getSourceAndTargetType( method );
+                if ( types != null ) {
+                    methodsByTypes.computeIfAbsent( types, key -> new ArrayList<>() ).add( method );
+                }
+            }
+            return CachedValueProvider.Result.create(
+                methodsByTypes,
+                PsiModificationTracker.JAVA_STRUCTURE_MODIFICATION_COUNT
+            );
+        } );
+    }
+
+    /**
+     * @param method the mapping method
+     *
+     * @return the erased names of the single source type and the target type of the {@code method}, or {@code null}
+     * if the method does not have a single source parameter or a target
+     */
+    @Nullable
+    static Pair<String, String> getSourceAndTargetType(@NotNull PsiMethod method) {
+        Pair<PsiType, PsiType> types = getSourceAndTargetPsiType( method );
+        return types == null ? null : Pair.create(
+            TypeConversionUtil.erasure( types.getFirst() ).getCanonicalText(),
+            TypeConversionUtil.erasure( types.getSecond() ).getCanonicalText()
+        );
+    }
+
+    /**
+     * @param method the mapping method
+     *
+     * @return the single source type and the target type of the {@code method}, or {@code null} if the method does
+     * not have a single source parameter or a target
+     */
+    @Nullable
+    static Pair<PsiType, PsiType> getSourceAndTargetPsiType(@NotNull PsiMethod method) {
+        PsiParameter[] sourceParameters = getSourceParameters( method );
+        if ( sourceParameters.length != 1 ) {
+            return null;
+        }
+
+        PsiType targetType = method.getReturnType();
+        if ( targetType == null || PsiType.VOID.equals( targetType ) ) {
+            targetType = Stream.of( method.getParameterList().getParameters() )
+                .filter( MapstructUtil::isMappingTarget )
+                .findAny()
+                .map( PsiParameter::getType )
+                .orElse( null );
+            if ( targetType == null ) {
+                return null;
+            }
+        }
+
+        return Pair.create( sourceParameters[0].getType(), targetType );
+    }
+}
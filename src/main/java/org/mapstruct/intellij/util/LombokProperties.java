@@ -0,0 +1,253 @@
+/*
+ *  Copyright 2017 the MapStruct authors (http://www.mapstruct.org/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.intellij.util;
+
+import java.beans.Introspector;
+import java.util.Map;
+
+import com.intellij.psi.PsiAnnotation;
+import com.intellij.psi.PsiAnnotationMemberValue;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiField;
+import com.intellij.psi.PsiMethod;
+import com.intellij.psi.PsiModifier;
+import com.intellij.psi.PsiType;
+import com.intellij.psi.impl.source.PsiExtensibleClass;
+import com.intellij.psi.util.PsiUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import static com.intellij.codeInsight.AnnotationUtil.findAnnotation;
+
+/**
+ * Computes the properties of classes annotated with Lombok directly from their fields and annotations. The methods
+ * that Lombok generates are only visible through PSI augmentation, which is expensive, so the fields and the
+ * explicitly declared methods of the class are used instead. The generated accessor of a property is only looked up
+ * (and the class augmented) when it is really needed, e.g. for rendering a lookup element.
+ * <p>
+ * Classes that use Lombok features that change the generated accessors (e.g. {@code @Accessors}) or that extend a
+ * generic class are not handled here and go through the augmented methods.
+ *
+ * @author Filip Hrisafov
+ */
+final class LombokProperties {
+
+    private static final String DATA = "lombok.Data";
+    private static final String VALUE = "lombok.Value";
+    private static final String GETTER = "lombok.Getter";
+    private static final String SETTER = "lombok.Setter";
+    private static final String BUILDER = "lombok.Builder";
+    private static final String ACCESSORS = "lombok.experimental.Accessors";
+
+    private LombokProperties() {
+    }
+
+    /**
+     * @param psiClass the class to be checked
+     *
+     * @return {@code true} if the properties of the {@code psiClass} can be computed from its fields and annotations
+     */
+    static boolean isApplicable(@NotNull PsiClass psiClass) {
+        if ( !( psiClass instanceof PsiExtensibleClass ) || psiClass.isInterface() || psiClass.isEnum()
+            || findAnnotation( psiClass, DATA, VALUE, GETTER, SETTER, BUILDER ) == null
+            || findAnnotation( psiClass, ACCESSORS ) != null ) {
+            return false;
+        }
+
+        for ( PsiField field : ( (PsiExtensibleClass) psiClass ).getOwnFields() ) {
+            if ( findAnnotation( field, ACCESSORS ) != null ) {
+                return false;
+            }
+        }
+
+        PsiClass superClass = psiClass.getSuperClass();
+        return superClass == null || !superClass.hasTypeParameters();
+    }
+
+    /**
+     * Collect the properties of the {@code psiClass}. The explicitly declared accessors come first, then the
+     * accessors generated by Lombok and then the properties of the super class.
+     *
+     * @param psiClass the class, it must be {@link #isApplicable(PsiClass) applicable}
+     * @param naming the accessor naming that should be used
+     * @param readProperties the map in which the read properties are collected
+     * @param writeProperties the map in which the write properties are collected
+     */
+    static void collectProperties(@NotNull PsiClass psiClass, @NotNull AccessorNaming naming,
+        @NotNull Map<String, PropertyModel.Property> readProperties,
+        @NotNull Map<String, PropertyModel.Property> writeProperties) {
+        PsiExtensibleClass extensibleClass = (PsiExtensibleClass) psiClass;
+        boolean builder = findAnnotation( psiClass, BUILDER ) != null;
+        boolean value = findAnnotation( psiClass, VALUE ) != null;
+
+        for ( PsiMethod method : extensibleClass.getOwnMethods() ) {
+            if ( method.isConstructor() || !MapstructUtil.isPublic( method ) ) {
+                continue;
+            }
+            if ( naming.isGetter( method ) ) {
+                readProperties.putIfAbsent(
+                    naming.getPropertyName( method ),
+                    new PropertyModel.Property( naming.getPropertyName( method ), method, method.getReturnType() )
+                );
+            }
+            else if ( !builder && naming.isSetter( method ) ) {
+                writeProperties.putIfAbsent(
+                    naming.getPropertyName( method ),
+                    new PropertyModel.Property(
+                        naming.getPropertyName( method ),
+                        method,
+                        method.getParameterList().getParameters()[0].getType()
+                    )
+                );
+            }
+        }
+
+        for ( PsiField field : extensibleClass.getOwnFields() ) {
+            if ( field.hasModifierProperty( PsiModifier.STATIC ) ) {
+                continue;
+            }
+
+            PsiType type = field.getType();
+            boolean isBoolean = PsiType.BOOLEAN.equals( type );
+            String baseName = getBaseName( field, isBoolean );
+            if ( hasAccessor( psiClass, field, GETTER, DATA, VALUE ) ) {
+                String getterName = ( isBoolean ? "is" : "get" ) + MapstructUtil.capitalize( baseName );
+                readProperties.putIfAbsent( naming.getPropertyName( getterName ), new PropertyModel.Property(
+                    naming.getPropertyName( getterName ),
+                    field,
+                    () -> findMethod( psiClass, getterName, 0 ),
+                    type
+                ) );
+            }
+
+            boolean initializedFinal = field.hasModifierProperty( PsiModifier.FINAL ) && field.hasInitializer();
+            if ( builder ) {
+                if ( !initializedFinal ) {
+                    String fieldName = field.getName();
+                    writeProperties.putIfAbsent( fieldName, new PropertyModel.Property(
+                        fieldName,
+                        field,
+                        () -> findBuilderMethod( psiClass, fieldName ),
+                        type
+                    ) );
+                }
+            }
+            else if ( value ) {
+                if ( !initializedFinal ) {
+                    // the properties are set through the all arguments constructor
+                    writeProperties.putIfAbsent( field.getName(), new PropertyModel.Property(
+                        field.getName(),
+                        field,
+                        null,
+                        type
+                    ) );
+                }
+            }
+            else if ( !field.hasModifierProperty( PsiModifier.FINAL )
+                && hasAccessor( psiClass, field, SETTER, DATA ) ) {
+                String setterName = "set" + MapstructUtil.capitalize( baseName );
+                writeProperties.putIfAbsent( naming.getPropertyName( setterName ), new PropertyModel.Property(
+                    naming.getPropertyName( setterName ),
+                    field,
+                    () -> findMethod( psiClass, setterName, 1 ),
+                    type
+                ) );
+            }
+        }
+
+        PsiClass superClass = psiClass.getSuperClass();
+        if ( superClass != null && !Object.class.getName().equals( superClass.getQualifiedName() ) ) {
+            PropertyModel superModel = PropertyModel.getInstance( superClass, naming );
+            for ( PropertyModel.Property property : superModel.getReadProperties() ) {
+                readProperties.putIfAbsent( property.getName(), property );
+            }
+            if ( !builder ) {
+                for ( PropertyModel.Property property : superModel.getWriteProperties() ) {
+                    writeProperties.putIfAbsent( property.getName(), property );
+                }
+            }
+        }
+    }
+
+    /**
+     * Lombok strips the {@code is} prefix of {@code boolean} fields, the accessors of {@code isActive} are
+     * {@code isActive()} and {@code setActive(boolean)}.
+     *
+     * @param field the field
+     * @param isBoolean whether the field is a primitive {@code boolean}
+     *
+     * @return the name from which Lombok derives the names of the accessors of the {@code field}
+     */
+    @NotNull
+    private static String getBaseName(@NotNull PsiField field, boolean isBoolean) {
+        String name = field.getName();
+        if ( isBoolean && name.length() > 2 && name.startsWith( "is" ) && Character.isUpperCase( name.charAt( 2 ) ) ) {
+            return Introspector.decapitalize( name.substring( 2 ) );
+        }
+        return name;
+    }
+
+    /**
+     * @param psiClass the class of the field
+     * @param field the field
+     * @param accessorAnnotation the annotation that generates the accessor ({@code @Getter} or {@code @Setter})
+     * @param classAnnotations the other annotations that generate the accessor when they are on the class
+     *
+     * @return {@code true} if Lombok generates a public accessor for the {@code field}
+     */
+    private static boolean hasAccessor(@NotNull PsiClass psiClass, @NotNull PsiField field,
+        @NotNull String accessorAnnotation, @NotNull String... classAnnotations) {
+        PsiAnnotation annotation = findAnnotation( field, accessorAnnotation );
+        if ( annotation == null ) {
+            annotation = findAnnotation( psiClass, accessorAnnotation );
+        }
+        if ( annotation != null ) {
+            return isPublic( annotation );
+        }
+        return findAnnotation( psiClass, classAnnotations ) != null;
+    }
+
+    /**
+     * @param annotation a Lombok {@code @Getter} or {@code @Setter} annotation
+     *
+     * @return {@code true} if the accessors generated by the {@code annotation} are public
+     */
+    private static boolean isPublic(@NotNull PsiAnnotation annotation) {
+        PsiAnnotationMemberValue value = annotation.findDeclaredAttributeValue( "value" );
+        return value == null || value.getText().endsWith( "PUBLIC" );
+    }
+
+    @Nullable
+    private static PsiMethod findMethod(@NotNull PsiClass psiClass, @NotNull String name, int parametersCount) {
+        for ( PsiMethod method : psiClass.findMethodsByName( name, false ) ) {
+            if ( method.getParameterList().getParametersCount() == parametersCount ) {
+                return method;
+            }
+        }
+        return null;
+    }
+
+    @Nullable
+    private static PsiMethod findBuilderMethod(@NotNull PsiClass psiClass, @NotNull String name) {
+        PsiMethod builderMethod = findMethod( psiClass, "builder", 0 );
+        PsiClass builderClass = builderMethod == null ? null :
+            PsiUtil.resolveClassInType( builderMethod.getReturnType() );
+        return builderClass == null ? null : findMethod( builderClass, name, 1 );
+    }
+}
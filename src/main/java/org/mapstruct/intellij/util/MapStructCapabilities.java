@@ -0,0 +1,214 @@
+/*
+ *  Copyright 2017 the MapStruct authors (http://www.mapstruct.org/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.intellij.util;
+
+import java.util.Arrays;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.project.DumbService;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.roots.OrderEnumerator;
+import com.intellij.openapi.roots.ProjectRootManager;
+import com.intellij.openapi.util.Key;
+import com.intellij.openapi.vfs.VfsUtilCore;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.CommonClassNames;
+import com.intellij.psi.JavaPsiFacade;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.PsiUtilCore;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import static com.intellij.codeInsight.AnnotationUtil.findAnnotation;
+import static org.mapstruct.intellij.util.MapstructUtil.MAPPER_ANNOTATION_FQN;
+import static org.mapstruct.intellij.util.MapstructUtil.MAPPING_ANNOTATION_FQN;
+
+/**
+ * What MapStruct offers to the code of a single module: whether it is present, its version and whether the
+ * {@link org.mapstruct.Mapping} annotation is repeatable.
+ * <p>
+ * The capabilities are kept per module together with the class roots of the dependencies of the module. After a
+ * root change they are only computed again for the modules whose class roots actually changed. When MapStruct is not
+ * in the project at all, no module is looked at.
+ *
+ * @author Filip Hrisafov
+ */
+final class MapStructCapabilities {
+
+    private static final Key<ModuleCapabilities> MODULE_CAPABILITIES_KEY = Key.create( "MapStruct.Capabilities" );
+    private static final Key<Boolean> LAST_KNOWN_PRESENCE_KEY = Key.create( "MapStruct.LastKnownPresence" );
+
+    private static final MapStructCapabilities ABSENT = new MapStructCapabilities( false, null, false );
+
+    private static final Pattern JAR_VERSION = Pattern.compile( "mapstruct(?:-jdk8)?-(\\d.*)\\.jar" );
+
+    private final boolean present;
+    private final String version;
+    private final boolean repeatableMapping;
+
+    private MapStructCapabilities(boolean present, @Nullable String version, boolean repeatableMapping) {
+        this.present = present;
+        this.version = version;
+        this.repeatableMapping = repeatableMapping;
+    }
+
+    /**
+     * The marker class cannot be looked up while the indexes are being built. In that case the last known answer is
+     * used, or MapStruct is assumed to be present when there is no such answer yet.
+     *
+     * @param project the project
+     *
+     * @return {@code true} if MapStruct is in any module or library of the {@code project}
+     */
+    static boolean isPresent(@NotNull Project project) {
+        if ( DumbService.isDumb( project ) ) {
+            return !Boolean.FALSE.equals( project.getUserData( LAST_KNOWN_PRESENCE_KEY ) );
+        }
+
+        boolean present = CachedValuesManager.getManager( project ).getCachedValue( project, () -> {
+            boolean foundMarkerClass = JavaPsiFacade.getInstance( project )
+                .findClass( MAPPER_ANNOTATION_FQN, GlobalSearchScope.allScope( project ) ) != null;
+            return CachedValueProvider.Result.createSingleDependency(
+                foundMarkerClass,
+                ProjectRootManager.getInstance( project )
+            );
+        } );
+        project.putUserData( LAST_KNOWN_PRESENCE_KEY, present );
+        return present;
+    }
+
+    /**
+     * Get the capabilities of the {@code module}. They are only computed again when the class roots of the
+     * dependencies of the module have changed since the last computation.
+     *
+     * @param module the module
+     *
+     * @return the capabilities of the {@code module}
+     */
+    @NotNull
+    static MapStructCapabilities of(@NotNull Module module) {
+        if ( !isPresent( module.getProject() ) ) {
+            return ABSENT;
+        }
+
+        long rootsModificationCount = ProjectRootManager.getInstance( module.getProject() ).getModificationCount();
+        ModuleCapabilities cached = module.getUserData( MODULE_CAPABILITIES_KEY );
+        if ( cached != null && cached.rootsModificationCount == rootsModificationCount ) {
+            return cached.capabilities;
+        }
+
+        String[] classRoots = OrderEnumerator.orderEntries( module )
+            .recursively()
+            .withoutSdk()
+            .classes()
+            .getUrls();
+        MapStructCapabilities capabilities;
+        if ( cached != null && Arrays.equals( cached.classRoots, classRoots ) ) {
+            capabilities = cached.capabilities;
+        }
+        else {
+            capabilities = compute( module );
+        }
+        module.putUserData(
+            MODULE_CAPABILITIES_KEY,
+            new ModuleCapabilities( rootsModificationCount, classRoots, capabilities )
+        );
+        return capabilities;
+    }
+
+    @NotNull
+    private static MapStructCapabilities compute(@NotNull Module module) {
+        GlobalSearchScope scope = module.getModuleRuntimeScope( false );
+        JavaPsiFacade facade = JavaPsiFacade.getInstance( module.getProject() );
+        PsiClass mapperAnnotation = facade.findClass( MAPPER_ANNOTATION_FQN, scope );
+        if ( mapperAnnotation == null ) {
+            return ABSENT;
+        }
+
+        PsiClass mappingAnnotation = facade.findClass( MAPPING_ANNOTATION_FQN, scope );
+        boolean repeatableMapping = findAnnotation(
+            mappingAnnotation,
+            true,
+            CommonClassNames.JAVA_LANG_ANNOTATION_REPEATABLE
+        ) != null;
+        return new MapStructCapabilities( true, findVersion( mapperAnnotation ), repeatableMapping );
+    }
+
+    /**
+     * @param mapperAnnotation the {@link org.mapstruct.Mapper} class
+     *
+     * @return the version in the name of the jar that contains the {@code mapperAnnotation}, or {@code null} if it
+     * is not in a MapStruct jar
+     */
+    @Nullable
+    private static String findVersion(@NotNull PsiClass mapperAnnotation) {
+        VirtualFile file = PsiUtilCore.getVirtualFile( mapperAnnotation );
+        VirtualFile jar = file == null ? null : VfsUtilCore.getVirtualFileForJar( file );
+        if ( jar == null ) {
+            return null;
+        }
+        Matcher matcher = JAR_VERSION.matcher( jar.getName() );
+        return matcher.matches() ? matcher.group( 1 ) : null;
+    }
+
+    /**
+     * @return {@code true} if MapStruct is present
+     */
+    boolean isPresent() {
+        return present;
+    }
+
+    /**
+     * @return the version of MapStruct, or {@code null} if it is not known
+     */
+    @Nullable
+    String getVersion() {
+        return version;
+    }
+
+    /**
+     * @return {@code true} if the {@link org.mapstruct.Mapping} annotation is
+     * {@link java.lang.annotation.Repeatable}, i.e. MapStruct jdk8 is used
+     */
+    boolean isRepeatableMapping() {
+        return repeatableMapping;
+    }
+
+    /**
+     * The capabilities of a module together with the values they were computed from.
+     */
+    private static class ModuleCapabilities {
+
+        private final long rootsModificationCount;
+        private final String[] classRoots;
+        private final MapStructCapabilities capabilities;
+
+        private ModuleCapabilities(long rootsModificationCount, String[] classRoots,
+            MapStructCapabilities capabilities) {
+            this.rootsModificationCount = rootsModificationCount;
+            this.classRoots = classRoots;
+            this.capabilities = capabilities;
+        }
+    }
+}
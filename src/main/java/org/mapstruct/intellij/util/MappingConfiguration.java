@@ -0,0 +1,520 @@
+/*
+ *  Copyright 2017 the MapStruct authors (http://www.mapstruct.org/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.intellij.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.intellij.openapi.project.DumbService;
+import com.intellij.openapi.roots.ProjectRootManager;
+import com.intellij.openapi.util.Key;
+import com.intellij.openapi.util.Pair;
+import com.intellij.openapi.util.RecursionManager;
+import com.intellij.psi.CommonClassNames;
+import com.intellij.psi.PsiAnnotation;
+import com.intellij.psi.PsiAnnotationMemberValue;
+import com.intellij.psi.PsiArrayInitializerMemberValue;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiClassObjectAccessExpression;
+import com.intellij.psi.PsiCompiledElement;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiEnumConstant;
+import com.intellij.psi.PsiMethod;
+import com.intellij.psi.PsiModifier;
+import com.intellij.psi.PsiNameValuePair;
+import com.intellij.psi.PsiParameter;
+import com.intellij.psi.PsiReferenceExpression;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.InheritanceUtil;
+import com.intellij.psi.util.PsiModificationTracker;
+import com.intellij.psi.util.PsiUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.mapstruct.InheritConfiguration;
+import org.mapstruct.InheritInverseConfiguration;
+import org.mapstruct.MappingInheritanceStrategy;
+import org.mapstruct.ReportingPolicy;
+import org.mapstruct.intellij.index.MapperIndex;
+import org.mapstruct.intellij.index.MapperInfo;
+import org.mapstruct.intellij.index.MappingMethodInfo;
+
+import static com.intellij.codeInsight.AnnotationUtil.findAnnotation;
+import static com.intellij.codeInsight.AnnotationUtil.findDeclaredAttribute;
+import static org.mapstruct.intellij.util.MapstructUtil.MAPPER_ANNOTATION_FQN;
+import static org.mapstruct.intellij.util.MapstructUtil.MAPPER_CONFIG_ANNOTATION_FQN;
+import static org.mapstruct.intellij.util.MapstructUtil.getSourceParameters;
+import static org.mapstruct.intellij.util.MapstructUtil.isMapperConfig;
+import static org.mapstruct.intellij.util.MapstructUtil.isMappingMethod;
+
+/**
+ * The effective configuration of a mapping method. It merges the configuration of the {@code @Mapper} (or
+ * {@code @MapperConfig}) that the method belongs to, the {@code @MapperConfig} referenced through
+ * {@link org.mapstruct.Mapper#config()}, the {@code @Mapping}s of the prototype methods inherited through
+ * {@link InheritConfiguration} and the inverted {@code @Mapping}s of the method inherited through
+ * {@link InheritInverseConfiguration}, or through the {@link MappingInheritanceStrategy} of the mapper (or of the
+ * config when the mapper does not define one).
+ * <p>
+ * The configuration is cached on the method until the Java structure of the project or the project roots change.
+ * Inspections and other features should use it instead of walking the inheritance chain on their own.
+ *
+ * @author Filip Hrisafov
+ */
+public final class MappingConfiguration {
+
+    private static final Key<CachedValue<List<PsiMethod>>> MAPPING_METHODS = Key.create( "MapStruct.MappingMethods" );
+    private static final String INHERIT_CONFIGURATION_ANNOTATION_FQN = InheritConfiguration.class.getName();
+    private static final String INHERIT_INVERSE_CONFIGURATION_ANNOTATION_FQN =
+        InheritInverseConfiguration.class.getName();
+
+    private final PsiClass mapperConfig;
+    private final ReportingPolicy unmappedTargetPolicy;
+    private final List<PsiClass> uses;
+    private final PsiMethod prototype;
+    private final PsiMethod inverse;
+    private final Set<String> definedTargets;
+
+    private MappingConfiguration(PsiClass mapperConfig, ReportingPolicy unmappedTargetPolicy, List<PsiClass> uses,
+        PsiMethod prototype, PsiMethod inverse, Set<String> definedTargets) {
+        this.mapperConfig = mapperConfig;
+        this.unmappedTargetPolicy = unmappedTargetPolicy;
+        this.uses = uses;
+        this.prototype = prototype;
+        this.inverse = inverse;
+        this.definedTargets = definedTargets;
+    }
+
+    /**
+     * Get the (cached) effective configuration of the given {@code method}.
+     *
+     * @param method the mapping method
+     *
+     * @return the effective configuration of the {@code method}
+     */
+    @NotNull
+    public static MappingConfiguration getInstance(@NotNull PsiMethod method) {
+        return CachedValuesManager.getCachedValue( method, () -> CachedValueProvider.Result.create(
+            compute( method ),
+            PsiModificationTracker.JAVA_STRUCTURE_MODIFICATION_COUNT,
+            ProjectRootManager.getInstance( method.getProject() )
+        ) );
+    }
+
+    /**
+     * @return the {@code @MapperConfig} referenced by the mapper of the method, or {@code null} if there is none
+     */
+    @Nullable
+    public PsiClass getMapperConfig() {
+        return mapperConfig;
+    }
+
+    /**
+     * @return the policy for unmapped target properties, the one of the mapper takes precedence over the one of the
+     * config
+     */
+    @NotNull
+    public ReportingPolicy getUnmappedTargetPolicy() {
+        return unmappedTargetPolicy;
+    }
+
+    /**
+     * @return the classes used by the mapper and by its config
+     */
+    @NotNull
+    public List<PsiClass> getUses() {
+        return uses;
+    }
+
+    /**
+     * @return the method from which the configuration is inherited, or {@code null} if there is none
+     */
+    @Nullable
+    public PsiMethod getPrototype() {
+        return prototype;
+    }
+
+    /**
+     * @return the method from which the configuration is inherited in inverse direction, or {@code null} if there
+     * is none
+     */
+    @Nullable
+    public PsiMethod getInverse() {
+        return inverse;
+    }
+
+    /**
+     * @return the targets defined by the {@code @Mapping}s of the method, of its prototypes and the inverted
+     * {@code @Mapping}s of its inverse method
+     */
+    @NotNull
+    public Set<String> getDefinedTargets() {
+        return definedTargets;
+    }
+
+    @NotNull
+    private static MappingConfiguration compute(@NotNull PsiMethod method) {
+        PsiClass containingClass = method.getContainingClass();
+        PsiAnnotation mapperAnnotation = containingClass == null ? null : findAnnotation(
+            containingClass,
+            MAPPER_ANNOTATION_FQN,
+            MAPPER_CONFIG_ANNOTATION_FQN
+        );
+        boolean inMapperConfig = containingClass != null && isMapperConfig( containingClass );
+
+        PsiClass mapperConfig = inMapperConfig ? null : findConfig( mapperAnnotation );
+        PsiAnnotation configAnnotation = mapperConfig == null ? null : findAnnotation(
+            mapperConfig,
+            MAPPER_CONFIG_ANNOTATION_FQN
+        );
+
+        ReportingPolicy unmappedTargetPolicy = findEnumAttribute(
+            mapperAnnotation,
+            "unmappedTargetPolicy",
+            ReportingPolicy.class
+        );
+        if ( unmappedTargetPolicy == null ) {
+            unmappedTargetPolicy = findEnumAttribute( configAnnotation, "unmappedTargetPolicy", ReportingPolicy.class );
+        }
+
+        List<PsiClass> uses = findUses( mapperAnnotation, configAnnotation );
+
+        MappingInheritanceStrategy strategy = findEnumAttribute(
+            mapperAnnotation,
+            "mappingInheritanceStrategy",
+            MappingInheritanceStrategy.class
+        );
+        if ( strategy == null ) {
+            strategy = findEnumAttribute(
+                configAnnotation,
+                "mappingInheritanceStrategy",
+                MappingInheritanceStrategy.class
+            );
+        }
+        PsiMethod prototype = findPrototype( method, containingClass, mapperConfig, strategy );
+        PsiMethod inverse = findInverse( method, containingClass, mapperConfig, strategy );
+
+        Set<String> definedTargets = new LinkedHashSet<>();
+        TargetUtils.findAllDefinedMappingTargets( method ).forEach( definedTargets::add );
+        if ( prototype != null ) {
+            MappingConfiguration prototypeConfiguration = RecursionManager.doPreventingRecursion(
+                method,
+                false,
+                () -> getInstance( prototype )
+            );
+            if ( prototypeConfiguration != null ) {
+                definedTargets.addAll( prototypeConfiguration.getDefinedTargets() );
+            }
+        }
+        if ( inverse != null ) {
+            InverseMappings.findInvertedTargets( inverse ).forEach( definedTargets::add );
+        }
+
+        return new MappingConfiguration(
+            mapperConfig,
+            unmappedTargetPolicy == null ? ReportingPolicy.WARN : unmappedTargetPolicy,
+            Collections.unmodifiableList( uses ),
+            prototype,
+            inverse,
+            Collections.unmodifiableSet( definedTargets )
+        );
+    }
+
+    /**
+     * Get the {@code @MapperConfig} of the {@code mapper} and the classes that it uses through
+     * {@link org.mapstruct.Mapper#uses()} of itself and of its config. This only depends on the mapper and not on a
+     * single mapping method.
+     *
+     * @param mapper the mapper (or mapper config)
+     *
+     * @return the config of the {@code mapper} (or {@code null} if there is none) and the classes it uses
+     */
+    @NotNull
+    static Pair<PsiClass, List<PsiClass>> findConfigAndUses(@NotNull PsiClass mapper) {
+        PsiAnnotation mapperAnnotation = findAnnotation( mapper, MAPPER_ANNOTATION_FQN, MAPPER_CONFIG_ANNOTATION_FQN );
+        PsiClass mapperConfig = isMapperConfig( mapper ) ? null : findConfig( mapperAnnotation );
+        PsiAnnotation configAnnotation = mapperConfig == null ? null : findAnnotation(
+            mapperConfig,
+            MAPPER_CONFIG_ANNOTATION_FQN
+        );
+        return Pair.create( mapperConfig, findUses( mapperAnnotation, configAnnotation ) );
+    }
+
+    @Nullable
+    private static PsiClass findConfig(@Nullable PsiAnnotation mapperAnnotation) {
+        if ( mapperAnnotation == null ) {
+            return null;
+        }
+        return resolveClasses( mapperAnnotation.findDeclaredAttributeValue( "config" ) )
+            .filter( MapstructUtil::isMapperConfig )
+            .findFirst()
+            .orElse( null );
+    }
+
+    @NotNull
+    private static List<PsiClass> findUses(@Nullable PsiAnnotation mapperAnnotation,
+        @Nullable PsiAnnotation configAnnotation) {
+        return Stream.concat(
+            resolveClasses( mapperAnnotation == null ? null : mapperAnnotation.findDeclaredAttributeValue( "uses" ) ),
+            resolveClasses( configAnnotation == null ? null : configAnnotation.findDeclaredAttributeValue( "uses" ) )
+        )
+            .distinct()
+            .collect( Collectors.toList() );
+    }
+
+    /**
+     * Find the method from which the {@code method} inherits its configuration. This is the method selected through
+     * {@link InheritConfiguration}, or when the method has no such annotation and the config uses
+     * {@link MappingInheritanceStrategy#AUTO_INHERIT_FROM_CONFIG} or
+     * {@link MappingInheritanceStrategy#AUTO_INHERIT_ALL_FROM_CONFIG}, the single matching method of the config.
+     *
+     * @param method the mapping method
+     * @param containingClass the mapper that the method belongs to
+     * @param mapperConfig the config of the mapper
+     * @param strategy the mapping inheritance strategy of the config
+     *
+     * @return the prototype of the {@code method}, or {@code null} if there is no single prototype
+     */
+    @Nullable
+    private static PsiMethod findPrototype(@NotNull PsiMethod method, @Nullable PsiClass containingClass,
+        @Nullable PsiClass mapperConfig, @Nullable MappingInheritanceStrategy strategy) {
+        PsiAnnotation inheritConfiguration = findAnnotation( method, INHERIT_CONFIGURATION_ANNOTATION_FQN );
+        List<PsiMethod> candidates = new ArrayList<>();
+        if ( inheritConfiguration != null ) {
+            if ( containingClass != null ) {
+                candidates.addAll( getMappingMethods( containingClass ) );
+            }
+            if ( mapperConfig != null ) {
+                candidates.addAll( getMappingMethods( mapperConfig ) );
+            }
+        }
+        else if ( mapperConfig != null && ( strategy == MappingInheritanceStrategy.AUTO_INHERIT_FROM_CONFIG ||
+            strategy == MappingInheritanceStrategy.AUTO_INHERIT_ALL_FROM_CONFIG ) ) {
+            candidates.addAll( getMappingMethods( mapperConfig ) );
+        }
+
+        if ( candidates.isEmpty() ) {
+            return null;
+        }
+
+        String name = findName( inheritConfiguration );
+        List<PsiMethod> prototypes = candidates.stream()
+            .filter( candidate -> !candidate.equals( method ) )
+            .filter( candidate -> name.isEmpty() || name.equals( candidate.getName() ) )
+            .filter( candidate -> isPrototypeCandidate( method, candidate ) )
+            .distinct()
+            .collect( Collectors.toList() );
+        return prototypes.size() == 1 ? prototypes.get( 0 ) : null;
+    }
+
+    /**
+     * Get the (cached) mapping methods of the {@code psiClass} and its super classes. Only these methods can be
+     * prototypes, so the methods of {@link Object} and of other non mapping super classes are never looked at.
+     *
+     * @param psiClass the mapper or mapper config
+     *
+     * @return the mapping methods of the {@code psiClass} and its super classes
+     */
+    @NotNull
+    private static List<PsiMethod> getMappingMethods(@NotNull PsiClass psiClass) {
+        return CachedValuesManager.getCachedValue( psiClass, MAPPING_METHODS, () -> {
+            List<PsiMethod> mappingMethods = new ArrayList<>();
+            InheritanceUtil.processSupers( psiClass, true, superClass -> {
+                collectMappingMethods( superClass, mappingMethods );
+                return true;
+            } );
+            return CachedValueProvider.Result.create(
+                mappingMethods,
+                PsiModificationTracker.JAVA_STRUCTURE_MODIFICATION_COUNT,
+                ProjectRootManager.getInstance( psiClass.getProject() ),
+                DumbService.getInstance( psiClass.getProject() ).getModificationTracker()
+            );
+        } );
+    }
+
+    /**
+     * Collect the mapping methods declared in the {@code psiClass}. For source classes the names of the mapping
+     * methods are taken from the {@link MapperIndex}, so only the methods with those names are looked at. Compiled
+     * classes (and all classes while indexing) are not in the index, their abstract methods with parameters and
+     * their annotated methods are the mapping methods.
+     *
+     * @param psiClass the class
+     * @param mappingMethods the list to which the mapping methods are added
+     */
+    private static void collectMappingMethods(@NotNull PsiClass psiClass, @NotNull List<PsiMethod> mappingMethods) {
+        String qualifiedName = psiClass.getQualifiedName();
+        if ( qualifiedName == null || CommonClassNames.JAVA_LANG_OBJECT.equals( qualifiedName ) ) {
+            return;
+        }
+
+        if ( psiClass instanceof PsiCompiledElement || DumbService.isDumb( psiClass.getProject() ) ) {
+            for ( PsiMethod method : psiClass.getMethods() ) {
+                if ( !method.isConstructor() && ( isMappingMethod( method ) ||
+                    ( method.hasModifierProperty( PsiModifier.ABSTRACT ) &&
+                        method.getParameterList().getParametersCount() > 0 ) ) ) {
+                    mappingMethods.add( method );
+                }
+            }
+            return;
+        }
+
+        Set<String> names = new LinkedHashSet<>();
+        GlobalSearchScope scope = GlobalSearchScope.allScope( psiClass.getProject() );
+        for ( MapperInfo mapperInfo : MapperIndex.getMapperInfos( qualifiedName, scope ) ) {
+            for ( MappingMethodInfo mappingMethod : mapperInfo.getMappingMethods() ) {
+                names.add( mappingMethod.getName() );
+            }
+        }
+        for ( String name : names ) {
+            Collections.addAll( mappingMethods, psiClass.findMethodsByName( name, false ) );
+        }
+    }
+
+    /**
+     * Find the method from which the {@code method} inherits its configuration in inverse direction. This is the
+     * method of the mapper or the config selected through {@link InheritInverseConfiguration}, or when the method
+     * has no such annotation and the config uses {@link MappingInheritanceStrategy#AUTO_INHERIT_REVERSE_FROM_CONFIG}
+     * or {@link MappingInheritanceStrategy#AUTO_INHERIT_ALL_FROM_CONFIG}, the single inverse method of the config.
+     *
+     * @param method the mapping method
+     * @param containingClass the mapper that the method belongs to
+     * @param mapperConfig the config of the mapper
+     * @param strategy the mapping inheritance strategy of the config
+     *
+     * @return the inverse method of the {@code method}, or {@code null} if there is no single inverse method
+     */
+    @Nullable
+    private static PsiMethod findInverse(@NotNull PsiMethod method, @Nullable PsiClass containingClass,
+        @Nullable PsiClass mapperConfig, @Nullable MappingInheritanceStrategy strategy) {
+        PsiAnnotation inheritInverseConfiguration = findAnnotation(
+            method,
+            INHERIT_INVERSE_CONFIGURATION_ANNOTATION_FQN
+        );
+        List<PsiClass> classes = new ArrayList<>( 2 );
+        if ( inheritInverseConfiguration != null ) {
+            if ( containingClass != null ) {
+                classes.add( containingClass );
+            }
+            if ( mapperConfig != null ) {
+                classes.add( mapperConfig );
+            }
+        }
+        else if ( mapperConfig != null && ( strategy == MappingInheritanceStrategy.AUTO_INHERIT_REVERSE_FROM_CONFIG ||
+            strategy == MappingInheritanceStrategy.AUTO_INHERIT_ALL_FROM_CONFIG ) ) {
+            classes.add( mapperConfig );
+        }
+
+        if ( classes.isEmpty() ) {
+            return null;
+        }
+        return InverseMappings.findInverse( method, findName( inheritInverseConfiguration ), classes );
+    }
+
+    /**
+     * @param inheritAnnotation the {@code @InheritConfiguration} or {@code @InheritInverseConfiguration} annotation
+     *
+     * @return the name of the method to inherit from, or an empty string if it is not defined
+     */
+    @NotNull
+    private static String findName(@Nullable PsiAnnotation inheritAnnotation) {
+        PsiNameValuePair name = inheritAnnotation == null ? null : findDeclaredAttribute( inheritAnnotation, "name" );
+        String value = name == null ? null : name.getLiteralValue();
+        return value == null ? "" : value;
+    }
+
+    /**
+     * A method can inherit the configuration of another method when its target type is the same as or a sub type of
+     * the target type of the other method, and its source parameters can be assigned to the source parameters of
+     * the other method.
+     *
+     * @param method the mapping method
+     * @param candidate the method that might be the prototype
+     *
+     * @return {@code true} if the {@code method} can inherit the configuration of the {@code candidate}
+     */
+    private static boolean isPrototypeCandidate(@NotNull PsiMethod method, @NotNull PsiMethod candidate) {
+        PsiClass targetClass = TargetUtils.getRelevantClass( method );
+        PsiClass candidateTargetClass = TargetUtils.getRelevantClass( candidate );
+        if ( targetClass == null || candidateTargetClass == null ||
+            !InheritanceUtil.isInheritorOrSelf( targetClass, candidateTargetClass, true ) ) {
+            return false;
+        }
+
+        PsiParameter[] sourceParameters = getSourceParameters( method );
+        PsiParameter[] candidateSourceParameters = getSourceParameters( candidate );
+        if ( sourceParameters.length != candidateSourceParameters.length ) {
+            return false;
+        }
+        for ( int i = 0; i < sourceParameters.length; i++ ) {
+            if ( !candidateSourceParameters[i].getType().isAssignableFrom( sourceParameters[i].getType() ) ) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @NotNull
+    private static Stream<PsiClass> resolveClasses(@Nullable PsiAnnotationMemberValue value) {
+        Stream<PsiAnnotationMemberValue> values;
+        if ( value instanceof PsiArrayInitializerMemberValue ) {
+            values = Stream.of( ( (PsiArrayInitializerMemberValue) value ).getInitializers() );
+        }
+        else if ( value != null ) {
+            values = Stream.of( value );
+        }
+        else {
+            values = Stream.empty();
+        }
+
+        return values
+            .filter( PsiClassObjectAccessExpression.class::isInstance )
+            .map( used -> ( (PsiClassObjectAccessExpression) used ).getOperand().getType() )
+            .map( PsiUtil::resolveClassInType )
+            .filter( Objects::nonNull );
+    }
+
+    @Nullable
+    private static <E extends Enum<E>> E findEnumAttribute(@Nullable PsiAnnotation annotation,
+        @NotNull String attributeName, @NotNull Class<E> enumClass) {
+        PsiAnnotationMemberValue value = annotation == null ? null :
+            annotation.findDeclaredAttributeValue( attributeName );
+        if ( !( value instanceof PsiReferenceExpression ) ) {
+            return null;
+        }
+
+        PsiElement resolved = ( (PsiReferenceExpression) value ).resolve();
+        if ( !( resolved instanceof PsiEnumConstant ) ) {
+            return null;
+        }
+
+        for ( E constant : enumClass.getEnumConstants() ) {
+            if ( constant.name().equals( ( (PsiEnumConstant) resolved ).getName() ) ) {
+                return constant;
+            }
+        }
+        return null;
+    }
+}
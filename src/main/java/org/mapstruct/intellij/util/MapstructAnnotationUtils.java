@@ -18,7 +18,10 @@
  */
 package org.mapstruct.intellij.util;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import com.intellij.codeInsight.AnnotationUtil;
 import com.intellij.openapi.command.WriteCommandAction;
@@ -34,6 +37,7 @@
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiFile;
 import com.intellij.psi.PsiMethod;
+import com.intellij.psi.PsiModifierList;
 import com.intellij.psi.PsiNameValuePair;
 import com.intellij.psi.codeStyle.JavaCodeStyleManager;
 import com.intellij.util.IncorrectOperationException;
@@ -64,6 +68,27 @@ private MapstructAnnotationUtils() {
     public static void addMappingAnnotation(@NotNull Project project,
         @NotNull PsiMethod mappingMethod,
         @NotNull PsiAnnotation mappingAnnotation) {
+        addMappingAnnotations( project, mappingMethod, Collections.singletonList( mappingAnnotation ) );
+    }
+
+    /**
+     * This method adds all the {@code mappingAnnotations} to the given {@code mappingMethod} in a single write
+     * command. The new {@link org.mapstruct.Mappings} container (or the repeated {@link org.mapstruct.Mapping}s) is
+     * computed once for all the annotations, and the class references are shortened once. It takes into
+     * consideration, the current mappings, language level and whether the {@link org.mapstruct.Mapping} repeatable
+     * annotation can be used.
+     *
+     * @param project the project
+     * @param mappingMethod the method to which the annotations need to be added
+     * @param mappingAnnotations the {@link org.mapstruct.Mapping} annotations, in the order in which they should be
+     * added
+     */
+    public static void addMappingAnnotations(@NotNull Project project,
+        @NotNull PsiMethod mappingMethod,
+        @NotNull List<PsiAnnotation> mappingAnnotations) {
+        if ( mappingAnnotations.isEmpty() ) {
+            return;
+        }
         Pair<PsiAnnotation, Optional<PsiAnnotation>> mappingsPair = findOrCreateMappingsAnnotation(
             project,
             mappingMethod
@@ -71,14 +96,33 @@ public static void addMappingAnnotation(@NotNull Project project,
         final PsiFile containingFile = mappingMethod.getContainingFile();
 
         PsiAnnotation containerAnnotation = mappingsPair.getFirst();
+        if ( containerAnnotation == null ) {
+            runWriteCommandAction(
+                project, () -> {
+                    PsiModifierList modifierList = mappingMethod.getModifierList();
+                    // the annotations are added in front of the modifier list, so they are added in reverse order
+                    for ( int i = mappingAnnotations.size() - 1; i >= 0; i-- ) {
+                        addPhysicalAnnotation(
+                            MapstructUtil.MAPPING_ANNOTATION_FQN,
+                            mappingAnnotations.get( i ).getParameterList().getAttributes(),
+                            modifierList
+                        );
+                    }
+                    JavaCodeStyleManager.getInstance( project ).shortenClassReferences( modifierList );
+                }, containingFile );
+
+            UndoUtil.markPsiFileForUndo( containingFile );
+            return;
+        }
+
         PsiAnnotation newAnnotation = createNewAnnotation(
             project,
             mappingMethod,
             containerAnnotation,
-            mappingAnnotation
+            mappingAnnotations
         );
         if ( newAnnotation != null ) {
-            if ( containerAnnotation != null && containerAnnotation.isPhysical() ) {
+            if ( containerAnnotation.isPhysical() ) {
                 runWriteCommandAction(
                     project,
                     () -> containerAnnotation.replace( newAnnotation ),
@@ -86,8 +130,6 @@ public static void addMappingAnnotation(@NotNull Project project,
                 );
             }
             else {
-                String fqn = containerAnnotation != null ? MapstructUtil.MAPPINGS_ANNOTATION_FQN :
-                    MapstructUtil.MAPPING_ANNOTATION_FQN;
                 PsiNameValuePair[] attributes = newAnnotation.getParameterList().getAttributes();
                 Optional<String> annotationToRemove = mappingsPair.getSecond()
                     .map( PsiAnnotation::getQualifiedName );
@@ -103,7 +145,7 @@ public static void addMappingAnnotation(@NotNull Project project,
                             ) );
 
                         PsiAnnotation inserted = addPhysicalAnnotation(
-                            fqn,
+                            MapstructUtil.MAPPINGS_ANNOTATION_FQN,
                             attributes,
                             mappingMethod.getModifierList()
                         );
@@ -176,18 +218,18 @@ private static void runWriteCommandAction(Project project, Runnable runnable, Ps
      *
      * @param project the project
      * @param container the container for the annotation
-     * @param containerAnnotation the container annotation for {@code mappingAnnotation}
-     * @param mappingAnnotation the single mapping annotation that needs to be taken into consideration when creating
+     * @param containerAnnotation the container annotation for {@code mappingAnnotations}
+     * @param mappingAnnotations the mapping annotations that need to be added to the {@code containerAnnotation}
      *
      * @return the annotation that should be added to the mapping method
      */
     private static PsiAnnotation createNewAnnotation(@NotNull Project project,
         PsiElement container,
-        PsiAnnotation containerAnnotation,
-        @NotNull PsiAnnotation mappingAnnotation) {
-        if ( containerAnnotation == null ) {
-            return mappingAnnotation;
-        }
+        @NotNull PsiAnnotation containerAnnotation,
+        @NotNull List<PsiAnnotation> mappingAnnotations) {
+        String newMappings = mappingAnnotations.stream()
+            .map( PsiAnnotation::getText )
+            .collect( Collectors.joining( ",\n " ) );
         if ( !containerAnnotation.getText().contains( "{" ) ) {
             //The container annotation contains a single value not declared as array
             final PsiNameValuePair[] attributes = containerAnnotation.getParameterList().getAttributes();
@@ -195,7 +237,7 @@ private static PsiAnnotation createNewAnnotation(@NotNull Project project,
                 final String currentMappings = attributes[0].getText();
                 return JavaPsiFacade.getInstance( project ).getElementFactory().createAnnotationFromText(
                     "@" + MapstructUtil.MAPPINGS_ANNOTATION_FQN + "({\n" + currentMappings + ",\n " +
-                        mappingAnnotation.getText() + "\n})", container );
+                        newMappings + "\n})", container );
 
             }
         }
@@ -207,7 +249,7 @@ private static PsiAnnotation createNewAnnotation(@NotNull Project project,
                 final String textToPreserve =
                     braceIndex < 0 ? textBeforeCurlyBrace : textBeforeCurlyBrace.substring( 0, braceIndex ) + "),\n";
                 return JavaPsiFacade.getInstance( project ).getElementFactory().createAnnotationFromText(
-                    textToPreserve + " " + mappingAnnotation.getText() + "\n})", container );
+                    textToPreserve + " " + newMappings + "\n})", container );
             }
             else {
                 throw new IncorrectOperationException( containerAnnotation.getText() );
@@ -19,32 +19,21 @@
 package org.mapstruct.intellij.util;
 
 import java.beans.Introspector;
-import java.util.function.Function;
 import java.util.stream.Stream;
 
 import com.intellij.codeInsight.lookup.LookupElement;
 import com.intellij.codeInsight.lookup.LookupElementBuilder;
 import com.intellij.openapi.module.Module;
 import com.intellij.openapi.module.ModuleUtilCore;
-import com.intellij.openapi.roots.ProjectRootManager;
-import com.intellij.openapi.util.Pair;
-import com.intellij.psi.CommonClassNames;
-import com.intellij.psi.JavaPsiFacade;
-import com.intellij.psi.PsiArrayType;
+import com.intellij.openapi.project.Project;
 import com.intellij.psi.PsiClass;
-import com.intellij.psi.PsiClassType;
+import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiFile;
 import com.intellij.psi.PsiMethod;
 import com.intellij.psi.PsiModifier;
 import com.intellij.psi.PsiModifierList;
 import com.intellij.psi.PsiParameter;
-import com.intellij.psi.PsiSubstitutor;
 import com.intellij.psi.PsiType;
-import com.intellij.psi.search.GlobalSearchScope;
-import com.intellij.psi.util.CachedValueProvider;
-import com.intellij.psi.util.CachedValuesManager;
-import com.intellij.psi.util.PsiFormatUtil;
-import com.intellij.psi.util.PsiFormatUtilBase;
 import com.intellij.util.PlatformIcons;
 import org.jetbrains.annotations.NonNls;
 import org.jetbrains.annotations.NotNull;
@@ -58,7 +47,6 @@
 import org.mapstruct.ValueMapping;
 import org.mapstruct.ValueMappings;
 
-import static com.intellij.codeInsight.AnnotationUtil.findAnnotation;
 import static com.intellij.codeInsight.AnnotationUtil.isAnnotated;
 
 /**
@@ -92,45 +80,64 @@ public final class MapstructUtil {
     private MapstructUtil() {
     }
 
-    public static LookupElement asLookup(@NotNull Pair<PsiMethod, PsiSubstitutor> pair,
-        Function<PsiMethod, PsiType> typeMapper) {
-        PsiMethod method = pair.getFirst();
-        PsiSubstitutor substitutor = pair.getSecond();
-
-        String propertyName = getPropertyName( method );
-        LookupElementBuilder builder = LookupElementBuilder.create( method, propertyName )
-            .withIcon( PlatformIcons.VARIABLE_ICON )
-            .withPresentableText( propertyName )
-            .withTailText( PsiFormatUtil.formatMethod( method, substitutor,
-                0,
-                PsiFormatUtilBase.SHOW_NAME | PsiFormatUtilBase.SHOW_TYPE
-            ) );
-        final PsiType type = typeMapper.apply( method );
-        if ( type != null ) {
-            builder = builder.withTypeText( substitutor.substitute( type ).getPresentableText() );
-        }
+    /**
+     * Create a lookup element for the given {@code property}. The presentation of the element is computed lazily,
+     * when the element is rendered.
+     *
+     * @param property the property for which a lookup needs to be created
+     *
+     * @return the lookup element for the {@code property}
+     */
+    public static LookupElement asLookup(@NotNull PropertyModel.Property property) {
+        return LookupElementBuilder.create( property.getElement(), property.getName() )
+            .withRenderer( new PropertyLookupRenderer( property ) );
+    }
 
-        return builder;
+    /**
+     * Create a lookup element for the given source or target {@code parameter}.
+     *
+     * @param parameter the parameter for which a lookup needs to be created
+     *
+     * @return the lookup element for the {@code parameter}
+     */
+    public static LookupElement asLookup(@NotNull PsiParameter parameter) {
+        return LookupElementBuilder.create( parameter )
+            .withIcon( PlatformIcons.PARAMETER_ICON )
+            .withTypeText( parameter.getType().getPresentableText() );
     }
 
     public static boolean isPublic(@NotNull PsiMethod method) {
         return method.hasModifierProperty( PsiModifier.PUBLIC );
     }
 
+    /**
+     * Checks if the {@code method} is a JavaBeans setter. Use {@link AccessorNaming#of(PsiElement)} when the
+     * conventions of the module need to be taken into account.
+     *
+     * @param method the method to be checked
+     *
+     * @return {@code true} if the {@code method} is a setter, {@code false} otherwise
+     */
     public static boolean isSetter(@NotNull PsiMethod method) {
         if ( method.getParameterList().getParametersCount() != 1 ) {
             return false;
         }
-        //TODO if we can use the AccessorNamingStrategy it would be awesome
         String methodName = method.getName();
         return methodName.startsWith( "set" );
     }
 
+    /**
+     * Checks if the {@code method} is a JavaBeans getter. Use {@link AccessorNaming#of(PsiElement)} when the
+     * conventions of the module need to be taken into account.
+     *
+     * @param method the method to be checked
+     *
+     * @return {@code true} if the {@code method} is a getter, {@code false} otherwise
+     */
     public static boolean isGetter(@NotNull PsiMethod method) {
         if ( method.getParameterList().getParametersCount() != 0 ) {
             return false;
         }
-        //TODO if we can use the AccessorNamingStrategy it would be awesome
         String methodName = method.getName();
         return ( methodName.startsWith( "get" ) && !methodName.equals( "getClass" )) || methodName.startsWith( "is" );
     }
@@ -138,7 +145,6 @@ public static boolean isGetter(@NotNull PsiMethod method) {
     @NotNull
     @NonNls
     public static String getPropertyName(@NotNull PsiMethod method) {
-        //TODO if we can use the AccessorNamingStrategy it would be awesome
         String methodName = method.getName();
         return getPropertyName( methodName );
     }
@@ -269,36 +275,17 @@ public static PsiParameter[] getSourceParameters(@NotNull PsiMethod mappingMetho
      * <li>An Array</li>
      * <li>An Iterable</li>
      * <li>A Map</li>
+     * <li>A Stream</li>
      * </ul>
      *
      * @param psiType the type to be checked
      *
      * @return {@code true} if MapStruct can descend into type
+     *
+     * @see TypeKind
      */
     public static boolean canDescendIntoType(@Nullable PsiType psiType) {
-        if ( psiType == null || psiType instanceof PsiArrayType ) {
-            return false;
-        }
-
-        GlobalSearchScope resolveScope = psiType.getResolveScope();
-        if ( resolveScope == null || resolveScope.getProject() == null ) {
-            return true;
-        }
-
-        if ( psiType instanceof PsiClassType ) {
-            return !PsiType.getTypeByName(
-                "java.lang.Iterable",
-                resolveScope.getProject(),
-                resolveScope
-            ).isAssignableFrom( psiType )
-                && !PsiType.getTypeByName(
-                "java.util.Map",
-                resolveScope.getProject(),
-                resolveScope
-            ).isAssignableFrom( psiType );
-        }
-
-        return true;
+        return psiType != null && TypeKind.of( psiType ).isDescendable();
     }
 
     public static String capitalize(String string) {
@@ -325,14 +312,19 @@ public static boolean isMapStructPresent(@NotNull PsiFile psiFile) {
      * @return {@code true} if MapStruct is present within the {@code module}, {@code false} otherwise
      */
     private static boolean isMapStructPresent(@NotNull Module module) {
-        return CachedValuesManager.getManager( module.getProject() ).getCachedValue( module, () -> {
-            boolean foundMarkerClass = JavaPsiFacade.getInstance( module.getProject() )
-                .findClass( MAPPER_ANNOTATION_FQN, module.getModuleRuntimeScope( false ) ) != null;
-            return CachedValueProvider.Result.createSingleDependency(
-                foundMarkerClass,
-                ProjectRootManager.getInstance( module.getProject() )
-            );
-        } );
+        return MapStructCapabilities.of( module ).isPresent();
+    }
+
+    /**
+     * Checks if MapStruct is within any module or library of the provided project. This is a cheap check that can be
+     * used to skip all the MapStruct specific work in projects that do not use MapStruct.
+     *
+     * @param project that needs to be checked
+     *
+     * @return {@code true} if MapStruct is present within the {@code project}, {@code false} otherwise
+     */
+    public static boolean isMapStructPresent(@NotNull Project project) {
+        return MapStructCapabilities.isPresent( project );
     }
 
     /**
@@ -344,19 +336,7 @@ private static boolean isMapStructPresent(@NotNull Module module) {
      * @return {@code true} if MapStruct jdk8 is present within the {@code module}, {@code false} otherwise
      */
     static boolean isMapStructJdk8Present(@NotNull Module module) {
-        return CachedValuesManager.getManager( module.getProject() ).getCachedValue( module, () -> {
-            PsiClass mappingAnnotation = JavaPsiFacade.getInstance( module.getProject() )
-                .findClass( MAPPING_ANNOTATION_FQN, module.getModuleRuntimeScope( false ) );
-            boolean mapstructJdk8Present = findAnnotation(
-                mappingAnnotation,
-                true,
-                CommonClassNames.JAVA_LANG_ANNOTATION_REPEATABLE
-            ) != null;
-            return CachedValueProvider.Result.createSingleDependency(
-                mapstructJdk8Present,
-                ProjectRootManager.getInstance( module.getProject() )
-            );
-        } );
+        return MapStructCapabilities.of( module ).isRepeatableMapping();
     }
 
     /**
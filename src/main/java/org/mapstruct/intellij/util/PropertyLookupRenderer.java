@@ -0,0 +1,65 @@
+/*
+ *  Copyright 2017 the MapStruct authors (http://www.mapstruct.org/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.intellij.util;
+
+import com.intellij.codeInsight.lookup.LookupElement;
+import com.intellij.codeInsight.lookup.LookupElementPresentation;
+import com.intellij.codeInsight.lookup.LookupElementRenderer;
+import com.intellij.psi.PsiMethod;
+import com.intellij.psi.PsiSubstitutor;
+import com.intellij.psi.PsiType;
+import com.intellij.psi.util.PsiFormatUtil;
+import com.intellij.psi.util.PsiFormatUtilBase;
+import com.intellij.util.PlatformIcons;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Renders the lookup element of a {@link PropertyModel.Property}. The tail and the type text are only computed when
+ * the element is actually shown, not for every property that is offered to the completion.
+ *
+ * @author Filip Hrisafov
+ */
+class PropertyLookupRenderer extends LookupElementRenderer<LookupElement> {
+
+    private final PropertyModel.Property property;
+
+    PropertyLookupRenderer(@NotNull PropertyModel.Property property) {
+        this.property = property;
+    }
+
+    @Override
+    public void renderElement(LookupElement element, LookupElementPresentation presentation) {
+        PsiSubstitutor substitutor = property.getSubstitutor();
+        presentation.setIcon( PlatformIcons.VARIABLE_ICON );
+        presentation.setItemText( property.getName() );
+        PsiMethod accessor = property.getAccessor();
+        if ( accessor != null ) {
+            presentation.setTailText( PsiFormatUtil.formatMethod(
+                accessor,
+                substitutor,
+                0,
+                PsiFormatUtilBase.SHOW_NAME | PsiFormatUtilBase.SHOW_TYPE
+            ) );
+        }
+        PsiType type = property.getType();
+        if ( type != null ) {
+            presentation.setTypeText( substitutor.substitute( type ).getPresentableText() );
+        }
+    }
+}
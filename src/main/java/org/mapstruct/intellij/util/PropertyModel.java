@@ -0,0 +1,698 @@
+/*
+ *  Copyright 2017 the MapStruct authors (http://www.mapstruct.org/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.intellij.util;
+
+import java.beans.Introspector;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+import com.intellij.openapi.roots.ProjectRootManager;
+import com.intellij.openapi.util.Key;
+import com.intellij.openapi.util.Pair;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.psi.PsiAnnotation;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiCompiledElement;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiField;
+import com.intellij.psi.PsiMethod;
+import com.intellij.psi.PsiModifier;
+import com.intellij.psi.PsiParameter;
+import com.intellij.psi.PsiSubstitutor;
+import com.intellij.psi.PsiType;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.InheritanceUtil;
+import com.intellij.psi.util.PsiModificationTracker;
+import com.intellij.psi.util.PsiUtil;
+import com.intellij.psi.util.TypeConversionUtil;
+import com.intellij.util.containers.ContainerUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The read (source) and write (target) properties of a {@link PsiClass} as seen by MapStruct.
+ * <p>
+ * The model is computed once per class and {@link AccessorNaming} and cached until the Java structure of the project
+ * changes. Completion, reference resolution and the inspections should always go through this model instead of
+ * iterating the methods of the class themselves.
+ *
+ * @author Filip Hrisafov
+ */
+public final class PropertyModel {
+
+    private static final String BUILD_METHOD_NAME = "build";
+    private static final Pattern GENERATED_PARAMETER_NAME = Pattern.compile( "(arg|p)\\d+" );
+    private static final Key<CachedValue<PsiClass>> BUILDER_CLASS_KEY = Key.create( "MapStruct.BuilderClass" );
+    private static final Map<AccessorNaming, Key<CachedValue<PropertyModel>>> MODEL_KEYS =
+        new EnumMap<>( AccessorNaming.class );
+
+    static {
+        for ( AccessorNaming naming : AccessorNaming.values() ) {
+            MODEL_KEYS.put( naming, Key.create( "MapStruct.PropertyModel." + naming ) );
+        }
+    }
+
+    private final Map<String, Property> readProperties;
+    private final Map<String, Property> writeProperties;
+    private final String[] writePropertyNamesByOrdinal;
+    private final Map<String, Integer> writePropertyOrdinals;
+    /**
+     * The source models are weakly referenced, a recomputed source model must not keep the outdated one alive.
+     */
+    private final ConcurrentMap<PropertyModel, BitSet> writePropertiesReadBy = ContainerUtil.createConcurrentWeakMap();
+
+    private PropertyModel(Map<String, Property> readProperties, Map<String, Property> writeProperties) {
+        this.readProperties = readProperties;
+        this.writeProperties = writeProperties;
+        this.writePropertyNamesByOrdinal = writeProperties.keySet().stream().sorted().toArray( String[]::new );
+        this.writePropertyOrdinals = new HashMap<>( writePropertyNamesByOrdinal.length * 2 );
+        for ( int ordinal = 0; ordinal < writePropertyNamesByOrdinal.length; ordinal++ ) {
+            writePropertyOrdinals.put( writePropertyNamesByOrdinal[ordinal], ordinal );
+        }
+    }
+
+    /**
+     * Get the (cached) property model for the given {@code psiClass} as seen from the module of the {@code context}.
+     *
+     * @param psiClass the class for which the model is needed
+     * @param context the element from which the class is used, it defines the {@link AccessorNaming}
+     *
+     * @return the property model for the {@code psiClass}
+     */
+    @NotNull
+    public static PropertyModel getInstance(@NotNull PsiClass psiClass, @NotNull PsiElement context) {
+        return getInstance( psiClass, AccessorNaming.of( context ) );
+    }
+
+    /**
+     * Get the (cached) property model for the given {@code psiClass}.
+     *
+     * @param psiClass the class for which the model is needed
+     * @param naming the accessor naming that should be used
+     *
+     * @return the property model for the {@code psiClass}
+     */
+    @NotNull
+    public static PropertyModel getInstance(@NotNull PsiClass psiClass, @NotNull AccessorNaming naming) {
+        return CachedValuesManager.getCachedValue( psiClass, MODEL_KEYS.get( naming ), () -> {
+            PropertyModel model = compute( psiClass, naming );
+            return CachedValueProvider.Result.create(
+                model,
+                PsiModificationTracker.JAVA_STRUCTURE_MODIFICATION_COUNT,
+                ProjectRootManager.getInstance( psiClass.getProject() )
+            );
+        } );
+    }
+
+    /**
+     * Compute the model of the {@code psiClass}. The write properties are the fluent setters of the builder of the
+     * class when it has one, the setters of the class otherwise. The parameters of the constructor that needs to be
+     * used to create the class are write properties as well. The properties of Lombok classes are computed from
+     * their fields and annotations, see {@link LombokProperties}, and the properties of records from their
+     * components. The {@link ClassKind} of the class selects which of these applies.
+     *
+     * @param psiClass the class for which the model is computed
+     * @param naming the accessor naming that should be used
+     *
+     * @return the property model of the {@code psiClass}
+     */
+    @NotNull
+    private static PropertyModel compute(@NotNull PsiClass psiClass, @NotNull AccessorNaming naming) {
+        Map<String, Property> readProperties = new LinkedHashMap<>();
+        Map<String, Property> writeProperties = new LinkedHashMap<>();
+        ClassKind kind = ClassKind.of( psiClass );
+        if ( kind == ClassKind.LOMBOK ) {
+            LombokProperties.collectProperties( psiClass, naming, readProperties, writeProperties );
+            return new PropertyModel(
+                Collections.unmodifiableMap( readProperties ),
+                Collections.unmodifiableMap( writeProperties )
+            );
+        }
+        else if ( kind == ClassKind.RECORD ) {
+            collectRecordProperties( psiClass, readProperties, writeProperties );
+            return new PropertyModel(
+                Collections.unmodifiableMap( readProperties ),
+                Collections.unmodifiableMap( writeProperties )
+            );
+        }
+
+        PsiClass builderClass = kind == ClassKind.BEAN ? findBuilderClass( psiClass ) : null;
+        for ( Pair<PsiMethod, PsiSubstitutor> pair : psiClass.getAllMethodsAndTheirSubstitutors() ) {
+            PsiMethod method = pair.getFirst();
+            if ( !MapstructUtil.isPublic( method )
+                || ( kind == ClassKind.KOTLIN_DATA_CLASS && isDataClassMethod( method ) ) ) {
+                continue;
+            }
+
+            if ( naming.isGetter( method ) ) {
+                addProperty(
+                    readProperties,
+                    naming.getPropertyName( method ),
+                    method,
+                    pair.getSecond(),
+                    method.getReturnType()
+                );
+            }
+            else if ( builderClass == null && naming.isSetter( method ) ) {
+                addProperty(
+                    writeProperties,
+                    naming.getPropertyName( method ),
+                    method,
+                    pair.getSecond(),
+                    method.getParameterList().getParameters()[0].getType()
+                );
+            }
+        }
+
+        if ( builderClass != null ) {
+            for ( Pair<PsiMethod, PsiSubstitutor> pair : builderClass.getAllMethodsAndTheirSubstitutors() ) {
+                PsiMethod method = pair.getFirst();
+                if ( isBuilderSetter( method, builderClass ) ) {
+                    addProperty(
+                        writeProperties,
+                        getBuilderPropertyName( method ),
+                        method,
+                        pair.getSecond(),
+                        method.getParameterList().getParameters()[0].getType()
+                    );
+                }
+            }
+        }
+        else {
+            PsiMethod constructor = kind == ClassKind.KOTLIN_DATA_CLASS ? findPrimaryConstructor( psiClass ) :
+                findPropertiesConstructor( psiClass );
+            addConstructorProperties( writeProperties, constructor );
+        }
+
+        return new PropertyModel(
+            Collections.unmodifiableMap( readProperties ),
+            Collections.unmodifiableMap( writeProperties )
+        );
+    }
+
+    private static void addProperty(Map<String, Property> properties, String propertyName, PsiMethod accessor,
+        PsiSubstitutor substitutor, PsiType type) {
+        if ( !propertyName.isEmpty() ) {
+            // The methods of the class itself come before the methods of the super classes
+            properties.putIfAbsent( propertyName, new Property( propertyName, accessor, accessor, substitutor, type ) );
+        }
+    }
+
+    private static void addConstructorProperties(Map<String, Property> properties, @Nullable PsiMethod constructor) {
+        if ( constructor == null || !hasRealParameterNames( constructor ) ) {
+            // Without the real names the parameters cannot be matched, the setters remain the write properties
+            return;
+        }
+        for ( PsiParameter parameter : constructor.getParameterList().getParameters() ) {
+            String propertyName = parameter.getName();
+            if ( propertyName != null ) {
+                properties.putIfAbsent( propertyName, new Property(
+                    propertyName,
+                    constructor,
+                    parameter,
+                    PsiSubstitutor.EMPTY,
+                    parameter.getType()
+                ) );
+            }
+        }
+    }
+
+    /**
+     * The parameters of compiled classes only have their real names when the class was compiled with
+     * {@code -parameters} (or the sources are attached), otherwise they are named {@code arg0}, {@code p0} etc.
+     *
+     * @param constructor the constructor
+     *
+     * @return {@code true} if the names of the parameters of the {@code constructor} are the real names
+     */
+    private static boolean hasRealParameterNames(@NotNull PsiMethod constructor) {
+        if ( !( constructor instanceof PsiCompiledElement ) ) {
+            return true;
+        }
+        for ( PsiParameter parameter : constructor.getParameterList().getParameters() ) {
+            String name = parameter.getName();
+            if ( name == null || GENERATED_PARAMETER_NAME.matcher( name ).matches() ) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Collect the properties of a record. The read properties are the accessors of the components, i.e. the public
+     * methods without parameters named as the fields of the record, and the write properties are the parameters of
+     * the canonical constructor.
+     *
+     * @param psiClass the record
+     * @param readProperties the map in which the read properties are collected
+     * @param writeProperties the map in which the write properties are collected
+     */
+    private static void collectRecordProperties(@NotNull PsiClass psiClass, Map<String, Property> readProperties,
+        Map<String, Property> writeProperties) {
+        List<PsiField> components = new ArrayList<>();
+        for ( PsiField field : psiClass.getFields() ) {
+            if ( field.hasModifierProperty( PsiModifier.STATIC ) ) {
+                continue;
+            }
+            components.add( field );
+            for ( PsiMethod accessor : psiClass.findMethodsByName( field.getName(), false ) ) {
+                if ( MapstructUtil.isPublic( accessor ) && accessor.getParameterList().getParametersCount() == 0 ) {
+                    addProperty( readProperties, field.getName(), accessor, PsiSubstitutor.EMPTY, field.getType() );
+                }
+            }
+        }
+
+        for ( PsiMethod constructor : psiClass.getConstructors() ) {
+            if ( isCanonicalConstructor( constructor, components ) ) {
+                addConstructorProperties( writeProperties, constructor );
+                return;
+            }
+        }
+    }
+
+    private static boolean isCanonicalConstructor(@NotNull PsiMethod constructor, @NotNull List<PsiField> components) {
+        PsiParameter[] parameters = constructor.getParameterList().getParameters();
+        if ( parameters.length != components.size() ) {
+            return false;
+        }
+        for ( int i = 0; i < parameters.length; i++ ) {
+            if ( !TypeConversionUtil.erasure( parameters[i].getType() )
+                .equals( TypeConversionUtil.erasure( components.get( i ).getType() ) ) ) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @param method a method of a Kotlin data class
+     *
+     * @return {@code true} if the {@code method} is one of the {@code componentN()} or {@code copy(...)} methods
+     * generated for data classes
+     */
+    private static boolean isDataClassMethod(@NotNull PsiMethod method) {
+        String name = method.getName();
+        return name.equals( "copy" )
+            || ( name.startsWith( "component" ) && name.length() > 9 && Character.isDigit( name.charAt( 9 ) ) );
+    }
+
+    /**
+     * @param psiClass the light class of a Kotlin data class
+     *
+     * @return the primary constructor of the data class, i.e. the public constructor with the most parameters
+     */
+    @Nullable
+    private static PsiMethod findPrimaryConstructor(@NotNull PsiClass psiClass) {
+        PsiMethod primaryConstructor = null;
+        for ( PsiMethod constructor : psiClass.getConstructors() ) {
+            if ( !MapstructUtil.isPublic( constructor ) ) {
+                continue;
+            }
+            if ( primaryConstructor == null || constructor.getParameterList().getParametersCount() >
+                primaryConstructor.getParameterList().getParametersCount() ) {
+                primaryConstructor = constructor;
+            }
+        }
+        return primaryConstructor;
+    }
+
+    /**
+     * Find the builder of the {@code psiClass}. A builder is the return type of a public static method without
+     * parameters of the class, that has a public {@code build()} method without parameters that returns the class.
+     * The classification is done once per class and cached until the Java structure of the project changes.
+     *
+     * @param psiClass the class for which the builder is needed
+     *
+     * @return the builder class, or {@code null} if the {@code psiClass} has no builder
+     */
+    @Nullable
+    private static PsiClass findBuilderClass(@NotNull PsiClass psiClass) {
+        return CachedValuesManager.getCachedValue( psiClass, BUILDER_CLASS_KEY, () -> {
+            PsiClass builderClass = computeBuilderClass( psiClass );
+            return CachedValueProvider.Result.create(
+                builderClass,
+                PsiModificationTracker.JAVA_STRUCTURE_MODIFICATION_COUNT
+            );
+        } );
+    }
+
+    @Nullable
+    private static PsiClass computeBuilderClass(@NotNull PsiClass psiClass) {
+        if ( psiClass.isInterface() || psiClass.isEnum() || psiClass.isAnnotationType() ) {
+            return null;
+        }
+
+        for ( PsiMethod method : psiClass.getMethods() ) {
+            if ( !method.hasModifierProperty( PsiModifier.STATIC ) || !MapstructUtil.isPublic( method )
+                || method.getParameterList().getParametersCount() != 0 ) {
+                continue;
+            }
+
+            PsiClass builderClass = PsiUtil.resolveClassInType( method.getReturnType() );
+            if ( builderClass == null || psiClass.equals( builderClass ) ) {
+                continue;
+            }
+
+            for ( PsiMethod builderMethod : builderClass.findMethodsByName( BUILD_METHOD_NAME, true ) ) {
+                if ( !builderMethod.hasModifierProperty( PsiModifier.STATIC )
+                    && MapstructUtil.isPublic( builderMethod )
+                    && builderMethod.getParameterList().getParametersCount() == 0
+                    && psiClass.equals( PsiUtil.resolveClassInType( builderMethod.getReturnType() ) ) ) {
+                    return builderClass;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @param method the method to be checked
+     * @param builderClass the builder to which the method belongs
+     *
+     * @return {@code true} if the {@code method} is a public fluent setter of the builder, i.e. a method with one
+     * parameter that returns the builder
+     */
+    private static boolean isBuilderSetter(@NotNull PsiMethod method, @NotNull PsiClass builderClass) {
+        if ( !MapstructUtil.isPublic( method ) || method.hasModifierProperty( PsiModifier.STATIC )
+            || method.getParameterList().getParametersCount() != 1 ) {
+            return false;
+        }
+        PsiClass returnClass = PsiUtil.resolveClassInType( method.getReturnType() );
+        return returnClass != null && InheritanceUtil.isInheritorOrSelf( builderClass, returnClass, true );
+    }
+
+    /**
+     * @param method the fluent setter of a builder
+     *
+     * @return the name of the property, {@code setName} and {@code name} are both setters for {@code name}
+     */
+    @NotNull
+    private static String getBuilderPropertyName(@NotNull PsiMethod method) {
+        String methodName = method.getName();
+        if ( methodName.length() > 3 && methodName.startsWith( "set" )
+            && Character.isUpperCase( methodName.charAt( 3 ) ) ) {
+            return Introspector.decapitalize( methodName.substring( 3 ) );
+        }
+        return methodName;
+    }
+
+    /**
+     * Find the constructor that needs to be used to create the {@code psiClass} when it has no public constructor
+     * without parameters. This is the public constructor annotated with an annotation named {@code Default}, or the
+     * only public constructor of the class.
+     *
+     * @param psiClass the class for which the constructor is needed
+     *
+     * @return the constructor with the properties, or {@code null} if the class does not need one
+     */
+    @Nullable
+    private static PsiMethod findPropertiesConstructor(@NotNull PsiClass psiClass) {
+        if ( psiClass.isInterface() || psiClass.isEnum() || psiClass.hasModifierProperty( PsiModifier.ABSTRACT ) ) {
+            return null;
+        }
+
+        List<PsiMethod> constructors = new ArrayList<>();
+        for ( PsiMethod constructor : psiClass.getConstructors() ) {
+            if ( !MapstructUtil.isPublic( constructor ) ) {
+                continue;
+            }
+            if ( constructor.getParameterList().getParametersCount() == 0 ) {
+                return null;
+            }
+            for ( PsiAnnotation annotation : constructor.getModifierList().getAnnotations() ) {
+                String qualifiedName = annotation.getQualifiedName();
+                if ( qualifiedName != null && StringUtil.getShortName( qualifiedName ).equals( "Default" ) ) {
+                    return constructor;
+                }
+            }
+            constructors.add( constructor );
+        }
+        return constructors.size() == 1 ? constructors.get( 0 ) : null;
+    }
+
+    /**
+     * @return all the properties that can be read (used as a source)
+     */
+    @NotNull
+    public Collection<Property> getReadProperties() {
+        return readProperties.values();
+    }
+
+    /**
+     * @return all the properties that can be written (used as a target)
+     */
+    @NotNull
+    public Collection<Property> getWriteProperties() {
+        return writeProperties.values();
+    }
+
+    /**
+     * @return the names of all the properties that can be read
+     */
+    @NotNull
+    public Set<String> getReadPropertyNames() {
+        return readProperties.keySet();
+    }
+
+    /**
+     * @return the names of all the properties that can be written
+     */
+    @NotNull
+    public Set<String> getWritePropertyNames() {
+        return writeProperties.keySet();
+    }
+
+    /**
+     * @param propertyName the name of the property
+     *
+     * @return the read property with the given {@code propertyName}, or {@code null} if there is no such property
+     */
+    @Nullable
+    public Property findReadProperty(@NotNull String propertyName) {
+        return readProperties.get( propertyName );
+    }
+
+    /**
+     * @param propertyName the name of the property
+     *
+     * @return the write property with the given {@code propertyName}, or {@code null} if there is no such property
+     */
+    @Nullable
+    public Property findWriteProperty(@NotNull String propertyName) {
+        return writeProperties.get( propertyName );
+    }
+
+    /**
+     * @return the number of write properties. The ordinals of the write properties go from {@code 0} up to (not
+     * including) this number and follow the alphabetical order of the property names.
+     */
+    public int getWritePropertyCount() {
+        return writePropertyNamesByOrdinal.length;
+    }
+
+    /**
+     * @param propertyName the name of the property
+     *
+     * @return the ordinal of the write property with the given {@code propertyName}, or {@code -1} if there is no
+     * such property
+     */
+    public int getWritePropertyOrdinal(@NotNull String propertyName) {
+        Integer ordinal = writePropertyOrdinals.get( propertyName );
+        return ordinal == null ? -1 : ordinal;
+    }
+
+    /**
+     * @param ordinal the ordinal of the write property
+     *
+     * @return the name of the write property with the given {@code ordinal}
+     */
+    @NotNull
+    public String getWritePropertyName(int ordinal) {
+        return writePropertyNamesByOrdinal[ordinal];
+    }
+
+    /**
+     * Get the (cached) ordinals of the write properties of this model that have a read property with the same name
+     * in the {@code sourceModel}. The returned set must not be modified.
+     *
+     * @param sourceModel the model of the source
+     *
+     * @return the ordinals of the write properties that are read by the {@code sourceModel}
+     */
+    @NotNull
+    public BitSet getWritePropertiesReadBy(@NotNull PropertyModel sourceModel) {
+        return writePropertiesReadBy.computeIfAbsent( sourceModel, model -> {
+            BitSet ordinals = new BitSet( writePropertyNamesByOrdinal.length );
+            for ( String readPropertyName : model.getReadPropertyNames() ) {
+                int ordinal = getWritePropertyOrdinal( readPropertyName );
+                if ( ordinal >= 0 ) {
+                    ordinals.set( ordinal );
+                }
+            }
+            return ordinals;
+        } );
+    }
+
+    /**
+     * Find the type of the nested property that is reached by walking the {@code path} from the {@code type}.
+     *
+     * @param type the type from which the walk starts
+     * @param path the names of the nested properties
+     * @param write whether the write properties (targets) or the read properties (sources) should be walked
+     * @param context the element from which the classes are used, it defines the {@link AccessorNaming}
+     *
+     * @return the substituted type of the last property of the {@code path}, or {@code null} if a property of the
+     * path cannot be found
+     */
+    @Nullable
+    static PsiType findPropertyType(@NotNull PsiType type, @NotNull List<String> path, boolean write,
+        @NotNull PsiElement context) {
+        PsiType result = type;
+        for ( String propertyName : path ) {
+            if ( !MapstructUtil.canDescendIntoType( result ) ) {
+                return null;
+            }
+            PsiClass psiClass = PsiUtil.resolveClassInType( result );
+            if ( psiClass == null ) {
+                return null;
+            }
+            PropertyModel model = getInstance( psiClass, context );
+            Property property = write ? model.findWriteProperty( propertyName ) : model.findReadProperty(
+                propertyName );
+            if ( property == null || property.getType() == null ) {
+                return null;
+            }
+            result = property.getSubstitutor().substitute( property.getType() );
+        }
+        return result;
+    }
+
+    /**
+     * A single property of a class, backed by its accessor.
+     */
+    public static final class Property {
+
+        private final String name;
+        private final Supplier<PsiMethod> accessorFinder;
+        private final PsiElement element;
+        private final PsiSubstitutor substitutor;
+        private final PsiType type;
+        private volatile PsiMethod accessor;
+
+        private Property(String name, PsiMethod accessor, PsiElement element, PsiSubstitutor substitutor,
+            PsiType type) {
+            this.name = name;
+            this.accessor = accessor;
+            this.accessorFinder = null;
+            this.element = element;
+            this.substitutor = substitutor;
+            this.type = type;
+        }
+
+        /**
+         * Create a property for an explicitly declared accessor.
+         *
+         * @param name the name of the property
+         * @param accessor the accessor
+         * @param type the type of the property
+         */
+        Property(String name, PsiMethod accessor, PsiType type) {
+            this( name, accessor, accessor, PsiSubstitutor.EMPTY, type );
+        }
+
+        /**
+         * Create a property for a field whose accessor is generated (e.g. by Lombok). The generated accessor is only
+         * looked up when it is needed.
+         *
+         * @param name the name of the property
+         * @param field the field that declares the property
+         * @param accessorFinder the function that finds the generated accessor, or {@code null} if there is none
+         * @param type the type of the property
+         */
+        Property(String name, PsiField field, @Nullable Supplier<PsiMethod> accessorFinder, PsiType type) {
+            this.name = name;
+            this.accessor = null;
+            this.accessorFinder = accessorFinder;
+            this.element = field;
+            this.substitutor = PsiSubstitutor.EMPTY;
+            this.type = type;
+        }
+
+        /**
+         * @return the name of the property
+         */
+        @NotNull
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * @return the getter / setter for the property, the fluent setter of the builder, or the constructor that
+         * has the property as a parameter. It is {@code null} when the accessor is generated and cannot be found.
+         */
+        @Nullable
+        public PsiMethod getAccessor() {
+            PsiMethod result = accessor;
+            if ( result == null && accessorFinder != null ) {
+                result = accessorFinder.get();
+                accessor = result;
+            }
+            return result;
+        }
+
+        /**
+         * @return the element that declares the property, the accessor, the parameter of the constructor or the
+         * field with a generated accessor
+         */
+        @NotNull
+        public PsiElement getElement() {
+            return element;
+        }
+
+        /**
+         * @return the substitutor of the accessor within the class that the model belongs to
+         */
+        @NotNull
+        public PsiSubstitutor getSubstitutor() {
+            return substitutor;
+        }
+
+        /**
+         * @return the declared type of the property, i.e. the return type of the getter or the parameter type of
+         * the setter
+         */
+        @Nullable
+        public PsiType getType() {
+            return type;
+        }
+    }
+}
@@ -18,14 +18,15 @@
  */
 package org.mapstruct.intellij.util;
 
+import java.util.List;
 import java.util.Objects;
 import java.util.stream.Stream;
 
-import com.intellij.openapi.util.Pair;
+import com.intellij.openapi.util.text.StringUtil;
 import com.intellij.psi.PsiClass;
 import com.intellij.psi.PsiMethod;
 import com.intellij.psi.PsiParameter;
-import com.intellij.psi.PsiSubstitutor;
+import com.intellij.psi.PsiType;
 import com.intellij.psi.util.PsiUtil;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -57,9 +58,8 @@ public static Stream<String> findAllSourceProperties(@NotNull PsiMethod method)
             return Stream.of( sourceParameters[0] )
                 .map( SourceUtils::getParameterClass )
                 .filter( Objects::nonNull )
-                .flatMap( SourceUtils::publicGetters )
-                .map( pair -> pair.getFirst() )
-                .map( MapstructUtil::getPropertyName );
+                .map( parameterClass -> PropertyModel.getInstance( parameterClass, method ) )
+                .flatMap( propertyModel -> propertyModel.getReadPropertyNames().stream() );
         }
 
         return Stream.of( sourceParameters )
@@ -67,27 +67,44 @@ public static Stream<String> findAllSourceProperties(@NotNull PsiMethod method)
     }
 
     /**
-     * Find the class for the given {@code parameter}
+     * Find the type of the given {@code source} of a {@link org.mapstruct.Mapping} of the {@code method}. When the
+     * method has one source parameter the source can start with a property of the parameter or with the name of the
+     * parameter, otherwise it needs to start with the name of a source parameter.
      *
-     * @param parameter the parameter
+     * @param method the mapping method
+     * @param source the (nested) source of the mapping
      *
-     * @return the class for the parameter
+     * @return the type of the source, or {@code null} if the source cannot be resolved
      */
     @Nullable
-    public static PsiClass getParameterClass(@NotNull PsiParameter parameter) {
-        return canDescendIntoType( parameter.getType() ) ? PsiUtil.resolveClassInType( parameter.getType() ) : null;
+    public static PsiType findSourceType(@NotNull PsiMethod method, @NotNull String source) {
+        PsiParameter[] sourceParameters = getSourceParameters( method );
+        List<String> path = StringUtil.split( source, "." );
+        if ( path.isEmpty() ) {
+            return null;
+        }
+
+        for ( PsiParameter parameter : sourceParameters ) {
+            if ( parameter.getName() != null && parameter.getName().equals( path.get( 0 ) ) ) {
+                return PropertyModel.findPropertyType( parameter.getType(), path.subList( 1, path.size() ), false,
+                    method );
+            }
+        }
+        if ( sourceParameters.length == 1 ) {
+            return PropertyModel.findPropertyType( sourceParameters[0].getType(), path, false, method );
+        }
+        return null;
     }
 
     /**
-     * Extract all public getters with their psi substitutors from the given {@code psiClass}
+     * Find the class for the given {@code parameter}
      *
-     * @param psiClass to use to extract the getters
+     * @param parameter the parameter
      *
-     * @return a stream that holds all public getters for the given {@code psiClass}
+     * @return the class for the parameter
      */
-    public static Stream<Pair<PsiMethod, PsiSubstitutor>> publicGetters(@NotNull PsiClass psiClass) {
-        return psiClass.getAllMethodsAndTheirSubstitutors().stream()
-            .filter( pair -> MapstructUtil.isGetter( pair.getFirst() ) )
-            .filter( pair -> MapstructUtil.isPublic( pair.getFirst() ) );
+    @Nullable
+    public static PsiClass getParameterClass(@NotNull PsiParameter parameter) {
+        return canDescendIntoType( parameter.getType() ) ? PsiUtil.resolveClassInType( parameter.getType() ) : null;
     }
 }
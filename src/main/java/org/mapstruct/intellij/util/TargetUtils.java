@@ -18,11 +18,17 @@
  */
 package org.mapstruct.intellij.util;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
-import com.intellij.openapi.util.Pair;
-import com.intellij.psi.ElementManipulators;
+import com.intellij.openapi.util.Key;
+import com.intellij.openapi.util.text.StringUtil;
 import com.intellij.psi.PsiAnnotation;
 import com.intellij.psi.PsiAnnotationMemberValue;
 import com.intellij.psi.PsiArrayInitializerMemberValue;
@@ -30,15 +36,19 @@
 import com.intellij.psi.PsiMethod;
 import com.intellij.psi.PsiNameValuePair;
 import com.intellij.psi.PsiParameter;
-import com.intellij.psi.PsiSubstitutor;
+import com.intellij.psi.PsiType;
 import com.intellij.psi.util.PsiUtil;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import org.mapstruct.intellij.index.MapperIndex;
+import org.mapstruct.intellij.index.MappingInfo;
 
 import static com.intellij.codeInsight.AnnotationUtil.findAnnotation;
 import static com.intellij.codeInsight.AnnotationUtil.findDeclaredAttribute;
 import static org.mapstruct.intellij.util.MapstructUtil.MAPPING_ANNOTATION_FQN;
 import static org.mapstruct.intellij.util.MapstructUtil.canDescendIntoType;
+import static org.mapstruct.intellij.util.MapstructUtil.getSourceParameters;
+import static org.mapstruct.intellij.util.SourceUtils.getParameterClass;
 
 /**
  * Utils for working with target properties (extracting targets  for MapStruct).
@@ -47,9 +57,80 @@
  */
 public class TargetUtils {
 
+    private static final Key<UnmappedTargetProperties> UNMAPPED_TARGET_PROPERTIES = Key.create(
+        "MapStruct.UnmappedTargetProperties" );
+
     private TargetUtils() {
     }
 
+    /**
+     * Find the sorted unmapped target properties of the {@code method}. The targets defined in the
+     * {@link MappingConfiguration} of the method are mapped. The result is cached on the method and it is only
+     * recomputed when the annotations or the parameters of the method, its configuration, or the property models of
+     * the source and target classes change. Editing an unrelated method does not trigger a recomputation.
+     *
+     * @param method the mapping method
+     * @param targetClass the target class of the mapping method
+     *
+     * @return the sorted unmapped target properties
+     */
+    @NotNull
+    public static List<String> findUnmappedTargetProperties(@NotNull PsiMethod method,
+        @NotNull PsiClass targetClass) {
+        PropertyModel targetModel = PropertyModel.getInstance( targetClass, method );
+        MappingConfiguration configuration = MappingConfiguration.getInstance( method );
+        PsiParameter[] sourceParameters = getSourceParameters( method );
+        PsiClass sourceClass = sourceParameters.length == 1 ? getParameterClass( sourceParameters[0] ) : null;
+        PropertyModel sourceModel = sourceClass == null ? null : PropertyModel.getInstance( sourceClass, method );
+        List<Object> dependencies = Arrays.asList(
+            MapperIndex.findMappings( method ),
+            Stream.of( sourceParameters )
+                .map( parameter -> parameter.getType().getCanonicalText() + " " + parameter.getName() )
+                .collect( Collectors.toList() ),
+            targetModel,
+            configuration,
+            sourceModel
+        );
+
+        UnmappedTargetProperties cached = method.getUserData( UNMAPPED_TARGET_PROPERTIES );
+        if ( cached != null && cached.dependencies.equals( dependencies ) ) {
+            return cached.properties;
+        }
+
+        BitSet unmapped = new BitSet( targetModel.getWritePropertyCount() );
+        unmapped.set( 0, targetModel.getWritePropertyCount() );
+
+        // clear all defined mapping targets, including the inherited ones
+        for ( String definedTarget : configuration.getDefinedTargets() ) {
+            clearOrdinal( unmapped, targetModel, definedTarget );
+        }
+
+        //TODO maybe we need to improve this by more granular extraction
+        if ( sourceModel != null ) {
+            unmapped.andNot( targetModel.getWritePropertiesReadBy( sourceModel ) );
+        }
+        else if ( sourceParameters.length > 1 ) {
+            for ( PsiParameter sourceParameter : sourceParameters ) {
+                clearOrdinal( unmapped, targetModel, sourceParameter.getName() );
+            }
+        }
+
+        List<String> properties = new ArrayList<>( unmapped.cardinality() );
+        for ( int ordinal = unmapped.nextSetBit( 0 ); ordinal >= 0; ordinal = unmapped.nextSetBit( ordinal + 1 ) ) {
+            properties.add( targetModel.getWritePropertyName( ordinal ) );
+        }
+        method.putUserData( UNMAPPED_TARGET_PROPERTIES, new UnmappedTargetProperties( dependencies, properties ) );
+        return properties;
+    }
+
+    private static void clearOrdinal(@NotNull BitSet properties, @NotNull PropertyModel model,
+        @Nullable String propertyName) {
+        int ordinal = propertyName == null ? -1 : model.getWritePropertyOrdinal( propertyName );
+        if ( ordinal >= 0 ) {
+            properties.clear( ordinal );
+        }
+    }
+
     /**
      * Get the relevant class for the {@code mappingMethod}. This can be the return of the method, the parameter
      * annotated with {@link org.mapstruct.MappingTarget}, or {@code null}
@@ -79,27 +160,28 @@ public static PsiClass getRelevantClass(@NotNull PsiMethod mappingMethod) {
     }
 
     /**
-     * Extract all public setters with their psi substitutors from the given {@code psiClass}
+     * Find all defined {@link org.mapstruct.Mapping#target()} for the given method
      *
-     * @param psiClass to use to extract the setters
+     * @param method that needs to be checked
      *
-     * @return a stream that holds all public setters for the given {@code psiClass}
+     * @return see description
      */
-    public static Stream<Pair<PsiMethod, PsiSubstitutor>> publicSetters(@NotNull PsiClass psiClass) {
-        return psiClass.getAllMethodsAndTheirSubstitutors().stream()
-            .filter( pair -> MapstructUtil.isSetter( pair.getFirst() ) )
-            .filter( pair -> MapstructUtil.isPublic( pair.getFirst() ) );
+    public static Stream<String> findAllDefinedMappingTargets(@NotNull PsiMethod method) {
+        return MapperIndex.findMappings( method ).stream()
+            .map( MappingInfo::getTarget )
+            .filter( Objects::nonNull )
+            .filter( s -> !s.isEmpty() );
     }
 
     /**
-     * Find all defined {@link org.mapstruct.Mapping#target()} for the given method
+     * Find all {@link org.mapstruct.Mapping} annotations of the given method, either declared directly on the method
+     * or within {@link org.mapstruct.Mappings}
      *
      * @param method that needs to be checked
      *
      * @return see description
      */
-    public static Stream<String> findAllDefinedMappingTargets(@NotNull PsiMethod method) {
-        //TODO cache
+    public static Stream<PsiAnnotation> findAllMappingAnnotations(@NotNull PsiMethod method) {
         PsiAnnotation mappings = findAnnotation( method, true, MapstructUtil.MAPPINGS_ANNOTATION_FQN );
         Stream<PsiAnnotation> mappingsAnnotations;
         if ( mappings == null ) {
@@ -123,11 +205,7 @@ else if ( mappingsValue != null && mappingsValue.getValue() instanceof PsiAnnota
             }
         }
 
-        return mappingsAnnotations
-            .map( psiAnnotation -> psiAnnotation.findDeclaredAttributeValue( "target" ) )
-            .filter( Objects::nonNull )
-            .map( ElementManipulators::getValueText )
-            .filter( s -> !s.isEmpty() );
+        return mappingsAnnotations;
     }
 
     /**
@@ -159,8 +237,45 @@ private static boolean isMappingAnnotation(PsiAnnotation psiAnnotation) {
      * @return all target properties for the given {@code targetClass}
      */
     public static Stream<String> findAllTargetProperties(@NotNull PsiClass targetClass) {
-        return publicSetters( targetClass )
-            .map( pair -> pair.getFirst() )
-            .map( MapstructUtil::getPropertyName );
+        return PropertyModel.getInstance( targetClass, targetClass ).getWritePropertyNames().stream();
+    }
+
+    /**
+     * Find the type of the given {@code target} of a {@link org.mapstruct.Mapping} of the {@code method}.
+     *
+     * @param method the mapping method
+     * @param target the (nested) target of the mapping
+     *
+     * @return the type of the target, or {@code null} if the target cannot be resolved
+     */
+    @Nullable
+    public static PsiType findTargetType(@NotNull PsiMethod method, @NotNull String target) {
+        PsiType targetType = method.getReturnType();
+        if ( !canDescendIntoType( targetType ) || PsiUtil.resolveClassInType( targetType ) == null ) {
+            targetType = Stream.of( method.getParameterList().getParameters() )
+                .filter( MapstructUtil::isMappingTarget )
+                .findAny()
+                .map( PsiParameter::getType )
+                .orElse( null );
+        }
+        List<String> path = StringUtil.split( target, "." );
+        if ( targetType == null || path.isEmpty() ) {
+            return null;
+        }
+        return PropertyModel.findPropertyType( targetType, path, true, method );
+    }
+
+    /**
+     * The cached unmapped target properties of a mapping method together with the values they were computed from.
+     */
+    private static class UnmappedTargetProperties {
+
+        private final List<Object> dependencies;
+        private final List<String> properties;
+
+        private UnmappedTargetProperties(List<Object> dependencies, List<String> properties) {
+            this.dependencies = dependencies;
+            this.properties = Collections.unmodifiableList( properties );
+        }
     }
 }
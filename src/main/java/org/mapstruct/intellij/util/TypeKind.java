@@ -0,0 +1,172 @@
+/*
+ *  Copyright 2017 the MapStruct authors (http://www.mapstruct.org/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.intellij.util;
+
+import com.intellij.openapi.roots.ProjectRootManager;
+import com.intellij.psi.CommonClassNames;
+import com.intellij.psi.PsiArrayType;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiClassType;
+import com.intellij.psi.PsiType;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.intellij.psi.util.InheritanceUtil;
+import com.intellij.psi.util.PsiModificationTracker;
+import com.intellij.psi.util.PsiUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The kind of a type from the MapStruct point of view.
+ * <p>
+ * The kind of a class is computed once and cached until the Java structure or the project roots change, so
+ * classifying a type is a single resolve of the type and a cache lookup. No lookup of {@link Iterable} or
+ * {@link java.util.Map} by name is needed.
+ *
+ * @author Filip Hrisafov
+ */
+public enum TypeKind {
+
+    ARRAY( false ),
+    ITERABLE( false ),
+    MAP( false ),
+    STREAM( false ),
+    OPTIONAL( true ),
+    ENUM( true ),
+    BEAN( true ),
+    /**
+     * Primitives and types that cannot be resolved.
+     */
+    OTHER( true );
+
+    private static final String JAVA_UTIL_STREAM_BASE_STREAM = "java.util.stream.BaseStream";
+
+    private final boolean descendable;
+
+    TypeKind(boolean descendable) {
+        this.descendable = descendable;
+    }
+
+    /**
+     * @return {@code true} if MapStruct can descend into the properties of a type of this kind, {@code false}
+     * otherwise
+     */
+    public boolean isDescendable() {
+        return descendable;
+    }
+
+    /**
+     * @param psiType the type that needs to be classified
+     *
+     * @return the kind of the {@code psiType}
+     */
+    @NotNull
+    public static TypeKind of(@NotNull PsiType psiType) {
+        if ( psiType instanceof PsiArrayType ) {
+            return ARRAY;
+        }
+
+        if ( psiType instanceof PsiClassType ) {
+            PsiClass psiClass = ( (PsiClassType) psiType ).resolve();
+            return psiClass == null ? OTHER : of( psiClass );
+        }
+
+        return OTHER;
+    }
+
+    /**
+     * @param psiClass the class that needs to be classified
+     *
+     * @return the (cached) kind of the {@code psiClass}
+     */
+    @NotNull
+    public static TypeKind of(@NotNull PsiClass psiClass) {
+        return CachedValuesManager.getCachedValue( psiClass, () -> CachedValueProvider.Result.create(
+            compute( psiClass ),
+            PsiModificationTracker.JAVA_STRUCTURE_MODIFICATION_COUNT,
+            ProjectRootManager.getInstance( psiClass.getProject() )
+        ) );
+    }
+
+    @NotNull
+    private static TypeKind compute(@NotNull PsiClass psiClass) {
+        if ( psiClass.isEnum() ) {
+            return ENUM;
+        }
+        else if ( InheritanceUtil.isInheritor( psiClass, CommonClassNames.JAVA_UTIL_MAP ) ) {
+            return MAP;
+        }
+        else if ( InheritanceUtil.isInheritor( psiClass, CommonClassNames.JAVA_LANG_ITERABLE ) ) {
+            return ITERABLE;
+        }
+        else if ( InheritanceUtil.isInheritor( psiClass, JAVA_UTIL_STREAM_BASE_STREAM ) ) {
+            return STREAM;
+        }
+        else if ( CommonClassNames.JAVA_UTIL_OPTIONAL.equals( psiClass.getQualifiedName() ) ) {
+            return OPTIONAL;
+        }
+        return BEAN;
+    }
+
+    /**
+     * Get the element type of an array, {@link Iterable}, {@link java.util.stream.Stream} or
+     * {@link java.util.Optional}.
+     *
+     * @param psiType the type
+     *
+     * @return the element type, or {@code null} if the type has no element type
+     */
+    @Nullable
+    public static PsiType getElementType(@NotNull PsiType psiType) {
+        switch ( of( psiType ) ) {
+            case ARRAY:
+                return ( (PsiArrayType) psiType ).getComponentType();
+            case ITERABLE:
+                return PsiUtil.substituteTypeParameter( psiType, CommonClassNames.JAVA_LANG_ITERABLE, 0, false );
+            case STREAM:
+                return PsiUtil.substituteTypeParameter( psiType, JAVA_UTIL_STREAM_BASE_STREAM, 0, false );
+            case OPTIONAL:
+                return PsiUtil.substituteTypeParameter( psiType, CommonClassNames.JAVA_UTIL_OPTIONAL, 0, false );
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * @param psiType the type
+     *
+     * @return the key type of the {@link java.util.Map}, or {@code null} if the type is not a map
+     */
+    @Nullable
+    public static PsiType getMapKeyType(@NotNull PsiType psiType) {
+        return of( psiType ) == MAP ?
+            PsiUtil.substituteTypeParameter( psiType, CommonClassNames.JAVA_UTIL_MAP, 0, false ) : null;
+    }
+
+    /**
+     * @param psiType the type
+     *
+     * @return the value type of the {@link java.util.Map}, or {@code null} if the type is not a map
+     */
+    @Nullable
+    public static PsiType getMapValueType(@NotNull PsiType psiType) {
+        return of( psiType ) == MAP ?
+            PsiUtil.substituteTypeParameter( psiType, CommonClassNames.JAVA_UTIL_MAP, 1, false ) : null;
+    }
+}
@@ -20,6 +20,7 @@
 
 import com.intellij.codeInsight.lookup.LookupElement;
 import com.intellij.codeInsight.lookup.LookupElementPresentation;
+import com.intellij.openapi.project.DumbServiceImpl;
 import com.intellij.psi.PsiClass;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiMethod;
@@ -111,6 +112,24 @@ public void testCarMapperReturnTargetCarDto() {
         assertCarDtoAutoComplete();
     }
 
+    public void testCarMapperReturnTargetCarDtoWithPrefix() {
+        configureByTestName();
+        assertThat( myItems )
+            .extracting( LookupElement::getLookupString )
+            .containsExactlyInAnyOrder(
+                "make",
+                "manufacturingYear"
+            );
+
+        assertThat( myItems )
+            .extracting( LookupElementPresentation::renderElement )
+            .usingRecursiveFieldByFieldElementComparator()
+            .containsExactlyInAnyOrder(
+                createVariable( "make", "String" ),
+                createVariable( "manufacturingYear", "String" )
+            );
+    }
+
     public void testCarMapperUpdateTargetCarDto() {
         configureByTestName();
         assertCarDtoAutoComplete();
@@ -210,6 +229,26 @@ public void testNestedSecondLevelAutoCompleteSourceProperty() {
             );
     }
 
+    public void testDumbModeTargetCompletion() {
+        DumbServiceImpl dumbService = DumbServiceImpl.getInstance( getProject() );
+        dumbService.setDumb( true );
+        try {
+            myFixture.configureByFile( "DumbModeTargetCompletion.java" );
+            complete();
+        }
+        finally {
+            dumbService.setDumb( false );
+        }
+
+        assertThat( myItems )
+            .extracting( LookupElement::getLookupString )
+            .containsExactlyInAnyOrder(
+                "name",
+                "description",
+                "label"
+            );
+    }
+
     public void testVariantsCarMapperNoSourceClass() {
         myFixture.configureByFile( "CarMapperNoSourceClass.java" );
         complete();
@@ -0,0 +1,74 @@
+/*
+ *  Copyright 2017 the MapStruct authors (http://www.mapstruct.org/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.intellij.batch;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import com.intellij.openapi.progress.EmptyProgressIndicator;
+import com.intellij.openapi.util.io.FileUtil;
+import org.mapstruct.intellij.MapstructBaseCompletionTestCase;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Filip Hrisafov
+ */
+public class MapstructBatchInspectorTest extends MapstructBaseCompletionTestCase {
+
+    @Override
+    protected String getTestDataPath() {
+        return "testData/inspection";
+    }
+
+    public void testBatchInspection() throws Exception {
+        myFixture.copyFileToProject(
+            "UnmappedTargetPropertiesData.java",
+            "org/example/data/UnmappedTargetPropertiesData.java"
+        );
+        myFixture.copyFileToProject( "UnmappedTargetProperties.java" );
+        myFixture.copyFileToProject( "MissingMapperOrMapperConfig.java" );
+
+        BatchInspectionReport report = new MapstructBatchInspector( getProject() )
+            .inspect( new EmptyProgressIndicator() );
+
+        assertThat( report.getInspectionTimesMs() )
+            .containsOnlyKeys( "UnmappedTargetProperties", "MapperOrMapperConfigMissing", "IncompatibleMappingTypes" );
+        assertThat( report.getFiles() )
+            .extracting( fileReport -> new File( fileReport.getPath() ).getName() )
+            .contains( "UnmappedTargetProperties.java", "MissingMapperOrMapperConfig.java" );
+
+        BatchInspectionReport.FileReport unmappedTargetProperties = report.getFiles().stream()
+            .filter( fileReport -> fileReport.getPath().endsWith( "/UnmappedTargetProperties.java" ) )
+            .findAny()
+            .orElseThrow( () -> new AssertionError( "UnmappedTargetProperties.java was not inspected" ) );
+        assertThat( unmappedTargetProperties.getProblems() )
+            .extracting( BatchInspectionReport.Problem::getMessage )
+            .contains(
+                "Unmapped target property: moreTarget",
+                "Unmapped target properties: moreTarget, testName"
+            );
+
+        File reportFile = FileUtil.createTempFile( "mapstruct-report", ".json" );
+        report.write( reportFile.toPath() );
+        assertThat( new String( Files.readAllBytes( reportFile.toPath() ), StandardCharsets.UTF_8 ) )
+            .contains( "\"inspection\": \"UnmappedTargetProperties\"" );
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ *  Copyright 2017 the MapStruct authors (http://www.mapstruct.org/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.intellij.codeinsight.linemarker;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.intellij.codeInsight.daemon.GutterMark;
+import com.intellij.codeInsight.daemon.LineMarkerInfo;
+import com.intellij.codeInsight.daemon.RelatedItemLineMarkerInfo;
+import com.intellij.navigation.GotoRelatedItem;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiMethod;
+import org.mapstruct.intellij.MapstructBaseCompletionTestCase;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Filip Hrisafov
+ */
+public class GeneratedMapperLineMarkerProviderTest extends MapstructBaseCompletionTestCase {
+
+    @Override
+    protected String getTestDataPath() {
+        return "testData/linemarker";
+    }
+
+    public void testNavigateToGeneratedImplementation() {
+        myFixture.configureByFiles( "CarMapper.java", "CarMapperImpl.java" );
+
+        List<PsiElement> targets = findTargets( "Navigate to the generated implementation" );
+        assertThat( targets ).hasSize( 1 );
+        assertThat( targets.get( 0 ) ).isInstanceOf( PsiMethod.class );
+        PsiMethod target = (PsiMethod) targets.get( 0 );
+        assertThat( target.getName() ).isEqualTo( "carToString" );
+        assertThat( target.getContainingClass().getQualifiedName() ).isEqualTo( "org.example.mapper.CarMapperImpl" );
+    }
+
+    public void testNavigateFromGeneratedImplementationToMapper() {
+        myFixture.configureByFiles( "CarMapperImpl.java", "CarMapper.java" );
+
+        List<PsiElement> targets = findTargets( "Navigate to the mapper" );
+        assertThat( targets ).hasSize( 1 );
+        assertThat( targets.get( 0 ) ).isInstanceOf( PsiMethod.class );
+        PsiMethod target = (PsiMethod) targets.get( 0 );
+        assertThat( target.getName() ).isEqualTo( "carToString" );
+        assertThat( target.getContainingClass().getQualifiedName() ).isEqualTo( "org.example.mapper.CarMapper" );
+    }
+
+    private List<PsiElement> findTargets(String tooltip) {
+        List<GutterMark> gutters = myFixture.findGuttersAtCaret();
+        return gutters.stream()
+            .filter( gutter -> tooltip.equals( gutter.getTooltipText() ) )
+            .map( gutter -> ( (LineMarkerInfo.LineMarkerGutterIconRenderer<?>) gutter ).getLineMarkerInfo() )
+            .filter( RelatedItemLineMarkerInfo.class::isInstance )
+            .flatMap( info -> ( (RelatedItemLineMarkerInfo<?>) info ).createGotoRelatedItems().stream() )
+            .map( GotoRelatedItem::getElement )
+            .collect( Collectors.toList() );
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ *  Copyright 2017 the MapStruct authors (http://www.mapstruct.org/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.intellij.codeinsight.linemarker;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.intellij.codeInsight.daemon.GutterMark;
+import com.intellij.codeInsight.daemon.LineMarkerInfo;
+import com.intellij.codeInsight.daemon.RelatedItemLineMarkerInfo;
+import com.intellij.navigation.GotoRelatedItem;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiMethod;
+import org.mapstruct.intellij.MapstructBaseCompletionTestCase;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Filip Hrisafov
+ */
+public class ProducingMappersLineMarkerProviderTest extends MapstructBaseCompletionTestCase {
+
+    private static final String TOOLTIP = "Navigate to the mapping methods producing this type";
+
+    @Override
+    protected String getTestDataPath() {
+        return "testData/linemarker";
+    }
+
+    public void testNavigateToProducingMappingMethods() {
+        myFixture.configureByFile( "ProducingMappers.java" );
+
+        List<GutterMark> gutters = myFixture.findGuttersAtCaret();
+        List<PsiElement> targets = gutters.stream()
+            .filter( gutter -> TOOLTIP.equals( gutter.getTooltipText() ) )
+            .map( gutter -> ( (LineMarkerInfo.LineMarkerGutterIconRenderer<?>) gutter ).getLineMarkerInfo() )
+            .filter( RelatedItemLineMarkerInfo.class::isInstance )
+            .flatMap( info -> ( (RelatedItemLineMarkerInfo<?>) info ).createGotoRelatedItems().stream() )
+            .map( GotoRelatedItem::getElement )
+            .collect( Collectors.toList() );
+
+        assertThat( targets )
+            .hasOnlyElementsOfType( PsiMethod.class )
+            .extracting( target -> ( (PsiMethod) target ).getName() )
+            .containsExactlyInAnyOrder( "carToCarDto", "updateCarDto" );
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ *  Copyright 2017 the MapStruct authors (http://www.mapstruct.org/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.intellij.graph;
+
+import com.intellij.openapi.command.WriteCommandAction;
+import com.intellij.psi.PsiClass;
+import com.intellij.util.containers.ContainerUtil;
+import org.mapstruct.intellij.MapstructBaseCompletionTestCase;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Filip Hrisafov
+ */
+public class MappingGraphTest extends MapstructBaseCompletionTestCase {
+
+    private static final String CAR = "org.example.graph.Car";
+    private static final String CAR_DTO = "org.example.graph.CarDto";
+    private static final String PERSON = "org.example.graph.Person";
+    private static final String PERSON_DTO = "org.example.graph.PersonDto";
+    private static final String CAR_MAPPER = "org.example.graph.CarMapper";
+    private static final String PERSON_MAPPER = "org.example.graph.PersonMapper";
+    private static final String ADDRESS_MAPPER = "org.example.graph.AddressMapper";
+    private static final String CENTRAL_CONFIG = "org.example.graph.CentralConfig";
+
+    @Override
+    protected String getTestDataPath() {
+        return "testData/graph";
+    }
+
+    public void testMappingGraph() {
+        myFixture.configureByFile( "GraphMappers.java" );
+        MappingGraph graph = MappingGraph.getInstance( getProject() );
+
+        assertThat( graph.getMappers() )
+            .extracting( MapperNode::getQualifiedName )
+            .contains( CAR_MAPPER, PERSON_MAPPER, ADDRESS_MAPPER, CENTRAL_CONFIG )
+            .doesNotContain( "org.example.graph.NotAMapper" );
+
+        MapperNode carMapper = graph.findMapper( CAR_MAPPER );
+        assertThat( carMapper ).isNotNull();
+        assertThat( carMapper.isConfig() ).isFalse();
+        assertThat( carMapper.getUses() ).containsExactly( PERSON_MAPPER );
+        assertThat( carMapper.getMappingMethods() )
+            .extracting( MappingEdge::getMethodName )
+            .containsExactly( "carToCarDto", "updateCarDto", "carsToCarDtos" );
+        assertThat( graph.findMapper( CENTRAL_CONFIG ).isConfig() ).isTrue();
+
+        assertThat( graph.findMappings( CAR, CAR_DTO ) )
+            .extracting( MappingEdge::getMethodName )
+            .containsExactlyInAnyOrder( "carToCarDto", "updateCarDto", "personCarToCarDto" );
+        assertThat( graph.findMappings( "java.util.List", "java.util.List" ) )
+            .extracting( MappingEdge::getMethodName )
+            .containsExactly( "carsToCarDtos" );
+        assertThat( graph.findMappings( "org.example.graph.NestedMapper.Source", "java.lang.String" ) )
+            .extracting( MappingEdge::getMethodName )
+            .containsExactly( "sourceToString" );
+        assertThat( graph.findMappings( "org.example.graph.NestedMapper.Source[]", "int[]" ) )
+            .extracting( MappingEdge::getMethodName )
+            .containsExactly( "sourcesToInts" );
+        assertThat( graph.findMappingsFrom( PERSON ) )
+            .extracting( MappingEdge::getMethodName )
+            .containsExactlyInAnyOrder( "personToPersonDto", "personCarToCarDto", "personDtoFromPerson" );
+        assertThat( graph.findMappingsTo( PERSON_DTO ) )
+            .extracting( MappingEdge::getMapper )
+            .containsExactlyInAnyOrder( PERSON_MAPPER, ADDRESS_MAPPER );
+
+        assertThat( graph.findMappersUsing( CAR_MAPPER ) ).containsExactlyInAnyOrder( PERSON_MAPPER, CENTRAL_CONFIG );
+        assertThat( graph.findUsesCycles() ).containsExactlyInAnyOrder(
+            ContainerUtil.newHashSet( CAR_MAPPER, PERSON_MAPPER ),
+            ContainerUtil.newHashSet( ADDRESS_MAPPER )
+        );
+    }
+
+    public void testGraphIsUpdatedOnChanges() {
+        myFixture.configureByFile( "GraphMappers.java" );
+        MappingGraph graph = MappingGraph.getInstance( getProject() );
+        assertThat( graph.findMappingsTo( PERSON_DTO ) ).hasSize( 2 );
+
+        PsiClass otherMapper = myFixture.addClass( "package org.example.graph;\n" +
+            "\n" +
+            "@org.mapstruct.Mapper\n" +
+            "interface OtherPersonMapper {\n" +
+            "\n" +
+            "    PersonDto map(Person person);\n" +
+            "}" );
+
+        assertThat( graph.findMappingsTo( PERSON_DTO ) )
+            .extracting( MappingEdge::getMapper )
+            .containsExactlyInAnyOrder( PERSON_MAPPER, ADDRESS_MAPPER, "org.example.graph.OtherPersonMapper" );
+
+        WriteCommandAction.runWriteCommandAction( getProject(), () -> otherMapper.getContainingFile().delete() );
+
+        assertThat( graph.findMappingsTo( PERSON_DTO ) )
+            .extracting( MappingEdge::getMapper )
+            .containsExactlyInAnyOrder( PERSON_MAPPER, ADDRESS_MAPPER );
+    }
+}
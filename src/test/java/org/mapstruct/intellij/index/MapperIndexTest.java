@@ -0,0 +1,116 @@
+/*
+ *  Copyright 2017 the MapStruct authors (http://www.mapstruct.org/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.intellij.index;
+
+import java.util.List;
+
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiMethod;
+import com.intellij.psi.search.GlobalSearchScope;
+import org.mapstruct.intellij.MapstructBaseCompletionTestCase;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Filip Hrisafov
+ */
+public class MapperIndexTest extends MapstructBaseCompletionTestCase {
+
+    @Override
+    protected String getTestDataPath() {
+        return "testData/index";
+    }
+
+    public void testIndexedMappers() {
+        myFixture.configureByFile( "IndexedMappers.java" );
+        GlobalSearchScope scope = GlobalSearchScope.projectScope( getProject() );
+
+        assertThat( MapperIndex.getAllQualifiedNames( getProject() ) )
+            .contains(
+                "org.example.mapper.CarMapper",
+                "org.example.mapper.CentralConfig",
+                "org.example.mapper.MissingAnnotationMapper"
+            )
+            .doesNotContain( "org.example.mapper.NotAMapper" );
+
+        List<MapperInfo> carMappers = MapperIndex.getMapperInfos( "org.example.mapper.CarMapper", scope );
+        assertThat( carMappers ).hasSize( 1 );
+        MapperInfo carMapper = carMappers.get( 0 );
+        assertThat( carMapper.getKind() ).isEqualTo( MapperInfo.Kind.MAPPER );
+        assertThat( carMapper.getPackageName() ).isEqualTo( "org.example.mapper" );
+        assertThat( carMapper.getImports() ).containsExactly(
+            "org.mapstruct.Mapper",
+            "org.mapstruct.MapperConfig",
+            "org.mapstruct.Mapping",
+            "org.mapstruct.MappingTarget",
+            "org.mapstruct.Mappings",
+            "org.example.dto.Car",
+            "org.example.dto.CarDto"
+        );
+        assertThat( carMapper.getUses() ).isEmpty();
+        assertThat( carMapper.getMappingMethods() )
+            .extracting( MappingMethodInfo::getName )
+            .containsExactly( "carToCarDto", "updateCarDto", "toDto", "toDto" );
+
+        MappingMethodInfo carToCarDto = carMapper.getMappingMethods().get( 0 );
+        assertThat( carToCarDto.getSourceTypes() ).containsExactly( "Car" );
+        assertThat( carToCarDto.getTargetType() ).isEqualTo( "CarDto" );
+        assertThat( carToCarDto.getMappings() ).containsExactly(
+            new MappingInfo( "seatCount", "numberOfSeats", false, null, null ),
+            new MappingInfo( "myDriver.name", "driver.name", false, null, null ),
+            new MappingInfo( "type", null, false, null, "car" ),
+            new MappingInfo( "description", null, false, "java(car.toString())", null )
+        );
+
+        MappingMethodInfo updateCarDto = carMapper.getMappingMethods().get( 1 );
+        assertThat( updateCarDto.getSourceTypes() ).containsExactly( "Car" );
+        assertThat( updateCarDto.getTargetType() ).isEqualTo( "CarDto" );
+        assertThat( updateCarDto.getMappings() ).containsExactly( new MappingInfo( "make", null, true, null, null ) );
+
+        List<MapperInfo> centralConfigs = MapperIndex.getMapperInfos( "org.example.mapper.CentralConfig", scope );
+        assertThat( centralConfigs ).extracting( MapperInfo::getKind ).containsExactly( MapperInfo.Kind.MAPPER_CONFIG );
+        assertThat( centralConfigs.get( 0 ).getUses() ).containsExactly( "CarMapper" );
+
+        List<MapperInfo> missingAnnotation = MapperIndex.getMapperInfos(
+            "org.example.mapper.MissingAnnotationMapper",
+            scope
+        );
+        assertThat( missingAnnotation ).hasSize( 1 );
+        assertThat( missingAnnotation.get( 0 ).getKind() ).isEqualTo( MapperInfo.Kind.OTHER );
+        assertThat( missingAnnotation.get( 0 ).getMappingMethods() )
+            .extracting( MappingMethodInfo::getName )
+            .containsExactly( "map" );
+    }
+
+    public void testFindMappings() {
+        myFixture.configureByFile( "IndexedMappers.java" );
+        PsiClass carMapper = myFixture.findClass( "org.example.mapper.CarMapper" );
+
+        assertThat( MapperIndex.findMappings( carMapper.findMethodsByName( "updateCarDto", false )[0] ) )
+            .containsExactly( new MappingInfo( "make", null, true, null, null ) );
+        assertThat( MapperIndex.findMappings( carMapper.findMethodsByName( "helper", false )[0] ) ).isEmpty();
+
+        PsiMethod[] overloads = carMapper.findMethodsByName( "toDto", false );
+        assertThat( overloads ).hasSize( 2 );
+        assertThat( MapperIndex.findMappings( overloads[0] ) )
+            .containsExactly( new MappingInfo( "make", null, false, null, "single" ) );
+        assertThat( MapperIndex.findMappings( overloads[1] ) )
+            .containsExactly( new MappingInfo( "make", null, false, null, "list" ) );
+    }
+}
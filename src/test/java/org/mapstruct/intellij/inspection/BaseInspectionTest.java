@@ -18,10 +18,16 @@
  */
 package org.mapstruct.intellij.inspection;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.intellij.codeInsight.intention.IntentionAction;
 import com.intellij.codeInspection.LocalInspectionTool;
 import org.jetbrains.annotations.NotNull;
 import org.mapstruct.intellij.MapstructBaseCompletionTestCase;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 /**
  * @author Filip Hrisafov
  */
@@ -46,4 +52,28 @@ void doTest() {
         myFixture.enableInspections( getInspection() );
         myFixture.testHighlighting( true, true, true );
     }
+
+    /**
+     * Launch the single quick fix with the given {@code familyName}.
+     *
+     * @param familyName the family name of the quick fix
+     */
+    void launchQuickFixByFamilyName(String familyName) {
+        List<IntentionAction> quickFixes = myFixture.getAllQuickFixes()
+            .stream()
+            .filter( action -> familyName.equals( action.getFamilyName() ) )
+            .collect( Collectors.toList() );
+        assertThat( quickFixes ).as( "Quick fixes with family name '" + familyName + "'" ).hasSize( 1 );
+        myFixture.launchAction( quickFixes.get( 0 ) );
+    }
+
+    /**
+     * @param action the action
+     *
+     * @return {@code true} if the {@code action} ignores or adds a single unmapped target property
+     */
+    static boolean isSinglePropertyFix(IntentionAction action) {
+        return action.getText().startsWith( "Ignore unmapped target property" ) ||
+            action.getText().startsWith( "Add unmapped target property" );
+    }
 }
@@ -0,0 +1,49 @@
+/*
+ *  Copyright 2017 the MapStruct authors (http://www.mapstruct.org/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.intellij.inspection;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * @author Filip Hrisafov
+ */
+public class IncompatibleMappingTypesInspectionTest extends BaseInspectionTest {
+
+    @NotNull
+    @Override
+    protected Class<IncompatibleMappingTypesInspection> getInspection() {
+        return IncompatibleMappingTypesInspection.class;
+    }
+
+    public void testIncompatibleMappingTypes() {
+        // The mock JDK does not necessarily contain the XML classes
+        addClassIfMissing(
+            "javax.xml.datatype.XMLGregorianCalendar",
+            "package javax.xml.datatype; public abstract class XMLGregorianCalendar {}"
+        );
+        addClassIfMissing( "javax.xml.bind.JAXBElement", "package javax.xml.bind; public class JAXBElement<T> {}" );
+        doTest();
+    }
+
+    private void addClassIfMissing(String qualifiedName, String text) {
+        if ( myFixture.getJavaFacade().findClass( qualifiedName ) == null ) {
+            myFixture.addClass( text );
+        }
+    }
+}
@@ -40,6 +40,16 @@ public void testMissingMapperOrMapperConfig() {
         doTest();
     }
 
+    public void testMissingMapperOrMapperConfigInherited() {
+        // The mapping methods are inherited from a class in another file
+        myFixture.configureByFiles(
+            "MissingMapperOrMapperConfigInherited.java",
+            "MissingMapperOrMapperConfigBase.java"
+        );
+        myFixture.enableInspections( getInspection() );
+        myFixture.testHighlighting( true, true, true );
+    }
+
     public void testMissingMapperOrConfigIntent() {
         doTest();
         List<IntentionAction> allQuickFixes = myFixture.getAllQuickFixes();
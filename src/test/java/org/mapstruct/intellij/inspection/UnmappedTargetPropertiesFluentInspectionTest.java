@@ -0,0 +1,56 @@
+/*
+ *  Copyright 2017 the MapStruct authors (http://www.mapstruct.org/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.intellij.inspection;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * @author Filip Hrisafov
+ */
+public class UnmappedTargetPropertiesFluentInspectionTest extends BaseInspectionTest {
+
+    @NotNull
+    @Override
+    protected Class<UnmappedTargetPropertiesInspection> getInspection() {
+        return UnmappedTargetPropertiesInspection.class;
+    }
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        myFixture.addFileToProject(
+            "META-INF/services/org.mapstruct.ap.spi.AccessorNamingStrategy",
+            "# the accessor naming strategy of the project\norg.example.spi.FluentAccessorNamingStrategy\n"
+        );
+        myFixture.addClass( "package org.example.spi;\n" +
+            "\n" +
+            "import javax.lang.model.element.ExecutableElement;\n" +
+            "\n" +
+            "public class FluentAccessorNamingStrategy {\n" +
+            "\n" +
+            "    public boolean isGetterMethod(ExecutableElement method) {\n" +
+            "        return method.getParameters().isEmpty();\n" +
+            "    }\n" +
+            "}" );
+    }
+
+    public void testUnmappedTargetPropertiesFluent() {
+        doTest();
+    }
+}
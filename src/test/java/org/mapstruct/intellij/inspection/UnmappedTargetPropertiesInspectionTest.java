@@ -63,20 +63,94 @@ public void testUnmappedTargetProperties() {
                 "Add unmapped target property: 'moreTarget'",
                 "Ignore unmapped target property: 'testName'",
                 "Add unmapped target property: 'testName'",
+                "Ignore all unmapped target properties",
+                "Add all unmapped target properties",
+                "Map unmapped target properties from similarly named source properties",
+                "Ignore unmapped target property: 'moreSource'",
+                "Add unmapped target property: 'moreSource'",
+                "Ignore unmapped target property: 'name'",
+                "Add unmapped target property: 'name'",
+                "Ignore unmapped target property: 'onlyInSource'",
+                "Add unmapped target property: 'onlyInSource'",
+                "Ignore all unmapped target properties",
+                "Add all unmapped target properties",
+                "Map unmapped target properties from similarly named source properties",
                 "Ignore unmapped target property: 'moreTarget'",
                 "Add unmapped target property: 'moreTarget'",
                 "Ignore unmapped target property: 'testName'",
                 "Add unmapped target property: 'testName'",
+                "Ignore all unmapped target properties",
+                "Add all unmapped target properties",
+                "Map unmapped target properties from similarly named source properties",
                 "Ignore unmapped target property: 'testName'",
                 "Add unmapped target property: 'testName'",
                 "Ignore unmapped target property: 'matching'",
                 "Add unmapped target property: 'matching'",
                 "Ignore unmapped target property: 'moreTarget'",
-                "Add unmapped target property: 'moreTarget'"
+                "Add unmapped target property: 'moreTarget'",
+                "Ignore all unmapped target properties",
+                "Add all unmapped target properties"
             );
 
-        allQuickFixes.forEach( myFixture::launchAction );
+        allQuickFixes.stream()
+            .filter( BaseInspectionTest::isSinglePropertyFix )
+            .forEach( myFixture::launchAction );
         String testName = getTestName( false );
         myFixture.checkResultByFile( testName + "_after.java" );
     }
+
+    public void testUnmappedTargetPropertiesIgnoreAll() {
+        doTest();
+        launchQuickFixByFamilyName( "Add ignore all unmapped target properties" );
+        myFixture.checkResultByFile( getTestName( false ) + "_after.java" );
+    }
+
+    public void testUnmappedTargetPropertiesAddAll() {
+        doTest();
+        launchQuickFixByFamilyName( "Add all unmapped target properties" );
+        myFixture.checkResultByFile( getTestName( false ) + "_after.java" );
+    }
+
+    public void testUnmappedTargetPropertiesSimilarlyNamed() {
+        doTest();
+        launchQuickFixByFamilyName( "Add similarly named unmapped target properties" );
+        myFixture.checkResultByFile( getTestName( false ) + "_after.java" );
+    }
+
+    public void testUnmappedTargetPropertiesConfig() {
+        doTest();
+    }
+
+    public void testUnmappedTargetPropertiesInverse() {
+        doTest();
+    }
+
+    public void testUnmappedTargetPropertiesImmutable() {
+        doTest();
+    }
+
+    public void testUnmappedTargetPropertiesLombok() {
+        myFixture.addClass( "package lombok;\n" +
+            "\n" +
+            "public enum AccessLevel { PUBLIC, MODULE, PROTECTED, PACKAGE, PRIVATE, NONE }" );
+        myFixture.addClass( "package lombok;\n\npublic @interface Data {}" );
+        myFixture.addClass( "package lombok;\n\npublic @interface Value {}" );
+        myFixture.addClass( "package lombok;\n\npublic @interface Builder {}" );
+        myFixture.addClass( "package lombok;\n" +
+            "\n" +
+            "public @interface Getter {\n" +
+            "    AccessLevel value() default AccessLevel.PUBLIC;\n" +
+            "}" );
+        myFixture.addClass( "package lombok;\n" +
+            "\n" +
+            "public @interface Setter {\n" +
+            "    AccessLevel value() default AccessLevel.PUBLIC;\n" +
+            "}" );
+        doTest();
+    }
+
+    public void testUnmappedTargetPropertiesRecord() {
+        myFixture.addClass( "package java.lang;\n\npublic abstract class Record {}" );
+        doTest();
+    }
 }
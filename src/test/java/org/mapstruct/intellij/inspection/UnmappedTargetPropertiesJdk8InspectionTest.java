@@ -68,15 +68,31 @@ public void testUnmappedTargetPropertiesJdk8() {
                 "Add unmapped target property: 'moreTarget'",
                 "Ignore unmapped target property: 'testName'",
                 "Add unmapped target property: 'testName'",
+                "Ignore all unmapped target properties",
+                "Add all unmapped target properties",
+                "Map unmapped target properties from similarly named source properties",
+                "Ignore unmapped target property: 'moreSource'",
+                "Add unmapped target property: 'moreSource'",
+                "Ignore unmapped target property: 'name'",
+                "Add unmapped target property: 'name'",
+                "Ignore unmapped target property: 'onlyInSource'",
+                "Add unmapped target property: 'onlyInSource'",
+                "Ignore all unmapped target properties",
+                "Add all unmapped target properties",
+                "Map unmapped target properties from similarly named source properties",
                 "Ignore unmapped target property: 'testName'",
                 "Add unmapped target property: 'testName'",
                 "Ignore unmapped target property: 'matching'",
                 "Add unmapped target property: 'matching'",
                 "Ignore unmapped target property: 'moreTarget'",
-                "Add unmapped target property: 'moreTarget'"
+                "Add unmapped target property: 'moreTarget'",
+                "Ignore all unmapped target properties",
+                "Add all unmapped target properties"
             );
 
-        allQuickFixes.forEach( myFixture::launchAction );
+        allQuickFixes.stream()
+            .filter( BaseInspectionTest::isSinglePropertyFix )
+            .forEach( myFixture::launchAction );
         myFixture.checkResultByFile( testName + "_after.java" );
     }
 }
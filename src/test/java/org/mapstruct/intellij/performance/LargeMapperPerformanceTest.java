@@ -0,0 +1,130 @@
+/*
+ *  Copyright 2017 the MapStruct authors (http://www.mapstruct.org/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.intellij.performance;
+
+import java.util.Collection;
+
+import com.intellij.codeInsight.lookup.LookupManager;
+import com.intellij.psi.JavaPsiFacade;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiMethod;
+import com.intellij.psi.impl.PsiModificationTrackerImpl;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.testFramework.PlatformTestUtil;
+import com.intellij.usageView.UsageInfo;
+import org.mapstruct.intellij.MapstructBaseCompletionTestCase;
+import org.mapstruct.intellij.inspection.MissingMapperOrMapperConfigAnnotationInspection;
+import org.mapstruct.intellij.inspection.UnmappedTargetPropertiesInspection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Performance tests with generated projects of {@link #MAPPERS} mappers, {@link #PROPERTIES} properties per bean and
+ * {@link #NESTING_LEVELS} nesting levels. They guard the time budgets of the main editor features.
+ *
+ * @author Filip Hrisafov
+ */
+public class LargeMapperPerformanceTest extends MapstructBaseCompletionTestCase {
+
+    private static final int MAPPERS = 30;
+    private static final int PROPERTIES = 60;
+    private static final int NESTING_LEVELS = 3;
+
+    private final SyntheticMappers mappers = new SyntheticMappers( MAPPERS, PROPERTIES, NESTING_LEVELS );
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        mappers.addToProject( myFixture );
+    }
+
+    public void testHighlighting() {
+        myFixture.configureByText( "HighlightedMapper.java", mappers.mapperText( MAPPERS, null ) );
+        myFixture.enableInspections(
+            UnmappedTargetPropertiesInspection.class,
+            MissingMapperOrMapperConfigAnnotationInspection.class
+        );
+
+        PlatformTestUtil.startPerformanceTest( "highlighting of a large mapper", 5000, () -> myFixture.doHighlighting() )
+            .setup( this::dropCaches )
+            .assertTiming();
+    }
+
+    public void testCompletionOfTarget() {
+        String path = mappers.propertyPath( 0 );
+        String prefix = path.substring( 0, path.lastIndexOf( '.' ) + 1 );
+        myFixture.configureByText(
+            "CompletionMapper.java",
+            mappers.mapperText( MAPPERS, "@Mapping(target = \"" + prefix + "<caret>\", ignore = true)" )
+        );
+
+        PlatformTestUtil.startPerformanceTest( "completion of a nested target property", 2000, () -> {
+            complete();
+            // The last level has no next property
+            assertThat( myItems ).hasSize( PROPERTIES );
+        } )
+            .setup( () -> {
+                LookupManager.getInstance( getProject() ).hideActiveLookup();
+                dropCaches();
+            } )
+            .assertTiming();
+    }
+
+    public void testFindUsagesOfGetter() {
+        PsiMethod getter = findMethod( "SourceLevel" + NESTING_LEVELS, "getProperty0" );
+
+        PlatformTestUtil.startPerformanceTest( "find usages of a getter", 3000, () -> {
+            Collection<UsageInfo> usages = myFixture.findUsages( getter );
+            assertThat( usages ).hasSize( MAPPERS );
+        } )
+            .setup( this::dropCaches )
+            .assertTiming();
+    }
+
+    public void testRenameOfSetter() {
+        PsiMethod setter = findMethod( "TargetLevel" + NESTING_LEVELS, "setProperty0" );
+        int[] renames = { 0 };
+
+        PlatformTestUtil.startPerformanceTest( "rename of a setter", 5000, () -> {
+            renames[0]++;
+            myFixture.renameElement( setter, "setRenamed" + renames[0] );
+        } )
+            .setup( this::dropCaches )
+            .assertTiming();
+
+        String renamedPath = mappers.propertyPath( 0 ).replace( "property0", "renamed" + renames[0] );
+        PsiClass mapper = myFixture.findClass( SyntheticMappers.PACKAGE + "." + SyntheticMappers.mapperName( 0 ) );
+        assertThat( mapper.getContainingFile().getText() ).contains( "target = \"" + renamedPath + "\"" );
+    }
+
+    private PsiMethod findMethod(String className, String methodName) {
+        PsiClass psiClass = JavaPsiFacade.getInstance( getProject() ).findClass(
+            SyntheticMappers.PACKAGE + "." + className,
+            GlobalSearchScope.projectScope( getProject() )
+        );
+        assertThat( psiClass ).isNotNull();
+        PsiMethod[] methods = psiClass.findMethodsByName( methodName, false );
+        assertThat( methods ).hasSize( 1 );
+        return methods[0];
+    }
+
+    private void dropCaches() {
+        ( (PsiModificationTrackerImpl) getPsiManager().getModificationTracker() ).incCounter();
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ *  Copyright 2017 the MapStruct authors (http://www.mapstruct.org/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.intellij.performance;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.intellij.psi.PsiLiteralExpression;
+import com.intellij.psi.PsiReference;
+import com.intellij.psi.impl.PsiModificationTrackerImpl;
+import com.intellij.psi.util.PsiTreeUtil;
+import com.intellij.testFramework.PlatformTestUtil;
+import org.mapstruct.intellij.MapstructBaseCompletionTestCase;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Benchmark for resolving deeply nested {@code target} / {@code source} properties.
+ *
+ * @author Filip Hrisafov
+ */
+public class NestedReferenceResolvePerformanceTest extends MapstructBaseCompletionTestCase {
+
+    private final SyntheticMappers mappers = new SyntheticMappers( 1, 200, 10 );
+
+    public void testResolveDeepNestedPropertiesInLargeMapper() {
+        mappers.addToProject( myFixture );
+        myFixture.configureByText( SyntheticMappers.mapperName( 1 ) + ".java", mappers.mapperText( 1, null ) );
+
+        List<PsiReference> references = new ArrayList<>();
+        for ( PsiLiteralExpression literal : PsiTreeUtil.findChildrenOfType(
+            myFixture.getFile(),
+            PsiLiteralExpression.class
+        ) ) {
+            for ( PsiReference reference : literal.getReferences() ) {
+                references.add( reference );
+            }
+        }
+        // Every mapping has a target and a source with one segment per nesting level and the property itself
+        assertThat( references ).hasSize( mappers.getProperties() * 2 * ( mappers.getNestingLevels() + 1 ) );
+
+        PlatformTestUtil.startPerformanceTest( "resolve nested MapStruct references", 2000, () -> {
+            for ( PsiReference reference : references ) {
+                assertThat( reference.resolve() ).isNotNull();
+            }
+        } )
+            .setup( () -> ( (PsiModificationTrackerImpl) getPsiManager().getModificationTracker() ).incCounter() )
+            .assertTiming();
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ *  Copyright 2017 the MapStruct authors (http://www.mapstruct.org/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.intellij.performance;
+
+import com.intellij.testFramework.fixtures.JavaCodeInsightTestFixture;
+
+/**
+ * Generator of synthetic mappers for the performance tests. It creates a chain of {@code SourceLevel<i>} and
+ * {@code TargetLevel<i>} beans that have {@code properties} properties each and a {@code next} property pointing to
+ * the next level, and mappers that map every property at the deepest level.
+ *
+ * @author Filip Hrisafov
+ */
+class SyntheticMappers {
+
+    static final String PACKAGE = "org.example.perf";
+
+    private final int mappers;
+    private final int properties;
+    private final int nestingLevels;
+
+    /**
+     * @param mappers the number of mappers
+     * @param properties the number of properties per bean
+     * @param nestingLevels the number of nesting levels in the mapped properties
+     */
+    SyntheticMappers(int mappers, int properties, int nestingLevels) {
+        this.mappers = mappers;
+        this.properties = properties;
+        this.nestingLevels = nestingLevels;
+    }
+
+    int getMappers() {
+        return mappers;
+    }
+
+    int getProperties() {
+        return properties;
+    }
+
+    int getNestingLevels() {
+        return nestingLevels;
+    }
+
+    /**
+     * Add the source and target beans and all the mappers to the project.
+     *
+     * @param fixture the fixture to which the classes need to be added
+     */
+    void addToProject(JavaCodeInsightTestFixture fixture) {
+        for ( int level = 0; level <= nestingLevels; level++ ) {
+            fixture.addClass( beanText( "SourceLevel", level ) );
+            fixture.addClass( beanText( "TargetLevel", level ) );
+        }
+        for ( int mapper = 0; mapper < mappers; mapper++ ) {
+            fixture.addClass( mapperText( mapper, null ) );
+        }
+    }
+
+    /**
+     * @param property the index of the property
+     *
+     * @return the nested path of the property, e.g. {@code next.next.property3}
+     */
+    String propertyPath(int property) {
+        StringBuilder path = new StringBuilder();
+        for ( int level = 0; level < nestingLevels; level++ ) {
+            path.append( "next." );
+        }
+        return path.append( "property" ).append( property ).toString();
+    }
+
+    /**
+     * @param index the index of the mapper
+     * @param extraMapping an extra {@code @Mapping} to add to the mapping method (e.g. one with a caret), can be
+     * {@code null}
+     *
+     * @return the text of the mapper
+     */
+    String mapperText(int index, String extraMapping) {
+        StringBuilder builder = new StringBuilder( "package " ).append( PACKAGE ).append( ";\n\n" )
+            .append( "import org.mapstruct.Mapper;\n" )
+            .append( "import org.mapstruct.Mapping;\n" )
+            .append( "import org.mapstruct.Mappings;\n\n" )
+            .append( "@Mapper\n" )
+            .append( "public interface " ).append( mapperName( index ) ).append( " {\n\n" )
+            .append( "    @Mappings({\n" );
+        for ( int property = 0; property < properties; property++ ) {
+            String path = propertyPath( property );
+            builder.append( "        @Mapping(target = \"" ).append( path )
+                .append( "\", source = \"" ).append( path ).append( "\")" );
+            if ( property < properties - 1 || extraMapping != null ) {
+                builder.append( ',' );
+            }
+            builder.append( '\n' );
+        }
+        if ( extraMapping != null ) {
+            builder.append( "        " ).append( extraMapping ).append( '\n' );
+        }
+        return builder.append( "    })\n" )
+            .append( "    TargetLevel0 map(SourceLevel0 source);\n" )
+            .append( "}\n" )
+            .toString();
+    }
+
+    static String mapperName(int index) {
+        return "SyntheticMapper" + index;
+    }
+
+    private String beanText(String prefix, int level) {
+        StringBuilder builder = new StringBuilder( "package " ).append( PACKAGE ).append( ";\n\n" )
+            .append( "public class " ).append( prefix ).append( level ).append( " {\n" );
+        for ( int property = 0; property < properties; property++ ) {
+            builder.append( "    public String getProperty" ).append( property ).append( "() { return null; }\n" )
+                .append( "    public void setProperty" ).append( property ).append( "(String value) { }\n" );
+        }
+        if ( level < nestingLevels ) {
+            String nextType = prefix + ( level + 1 );
+            builder.append( "    public " ).append( nextType ).append( " getNext() { return null; }\n" )
+                .append( "    public void setNext(" ).append( nextType ).append( " next) { }\n" );
+        }
+        return builder.append( "}\n" ).toString();
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ *  Copyright 2017 the MapStruct authors (http://www.mapstruct.org/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.intellij.util;
+
+import com.intellij.pom.java.LanguageLevel;
+import com.intellij.psi.PsiClass;
+import com.intellij.psi.PsiType;
+import org.mapstruct.intellij.MapstructBaseCompletionTestCase;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Filip Hrisafov
+ */
+public class TypeKindTest extends MapstructBaseCompletionTestCase {
+
+    private PsiClass types;
+
+    @Override
+    protected LanguageLevel getLanguageLevel() {
+        return LanguageLevel.JDK_1_8;
+    }
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        types = myFixture.addClass( "package org.example.kind;\n" +
+            "\n" +
+            "import java.util.*;\n" +
+            "import java.util.stream.Stream;\n" +
+            "\n" +
+            "public class Types {\n" +
+            "    public enum Color { RED, GREEN }\n" +
+            "    public static class Bean { private String name; }\n" +
+            "    public static class Names extends ArrayList<String> { }\n" +
+            "\n" +
+            "    String[] array;\n" +
+            "    List<String> list;\n" +
+            "    Names names;\n" +
+            "    Map<String, Bean> map;\n" +
+            "    Stream<Bean> stream;\n" +
+            "    Optional<Bean> optional;\n" +
+            "    Color color;\n" +
+            "    Bean bean;\n" +
+            "    int primitive;\n" +
+            "}" );
+    }
+
+    public void testNotDescendableKinds() {
+        assertKind( "array", TypeKind.ARRAY, false );
+        assertKind( "list", TypeKind.ITERABLE, false );
+        assertKind( "names", TypeKind.ITERABLE, false );
+        assertKind( "map", TypeKind.MAP, false );
+        assertKind( "stream", TypeKind.STREAM, false );
+    }
+
+    public void testDescendableKinds() {
+        assertKind( "optional", TypeKind.OPTIONAL, true );
+        assertKind( "color", TypeKind.ENUM, true );
+        assertKind( "bean", TypeKind.BEAN, true );
+        assertKind( "primitive", TypeKind.OTHER, true );
+    }
+
+    public void testElementTypes() {
+        assertThat( TypeKind.getElementType( fieldType( "array" ) ).getCanonicalText() )
+            .isEqualTo( "java.lang.String" );
+        assertThat( TypeKind.getElementType( fieldType( "list" ) ).getCanonicalText() )
+            .isEqualTo( "java.lang.String" );
+        assertThat( TypeKind.getElementType( fieldType( "stream" ) ).getCanonicalText() )
+            .isEqualTo( "org.example.kind.Types.Bean" );
+        assertThat( TypeKind.getElementType( fieldType( "optional" ) ).getCanonicalText() )
+            .isEqualTo( "org.example.kind.Types.Bean" );
+        assertThat( TypeKind.getMapKeyType( fieldType( "map" ) ).getCanonicalText() )
+            .isEqualTo( "java.lang.String" );
+        assertThat( TypeKind.getMapValueType( fieldType( "map" ) ).getCanonicalText() )
+            .isEqualTo( "org.example.kind.Types.Bean" );
+        assertThat( TypeKind.getElementType( fieldType( "bean" ) ) ).isNull();
+    }
+
+    private void assertKind(String fieldName, TypeKind expectedKind, boolean descendable) {
+        PsiType type = fieldType( fieldName );
+        assertThat( TypeKind.of( type ) ).as( fieldName ).isEqualTo( expectedKind );
+        assertThat( MapstructUtil.canDescendIntoType( type ) ).as( fieldName ).isEqualTo( descendable );
+    }
+
+    private PsiType fieldType(String fieldName) {
+        return types.findFieldByName( fieldName, false ).getType();
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ *  Copyright 2017 the MapStruct authors (http://www.mapstruct.org/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.example.mapper;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.MapperConfig;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
+import org.mapstruct.Mappings;
+import org.example.dto.Car;
+import org.example.dto.CarDto;
+
+@Mapper
+interface CarMapper {
+
+    @Mappings({
+        @Mapping(target = "seatCount", source = "numberOfSeats"),
+        @Mapping(target = "myDriver.name", source = "driver.name"),
+        @Mapping(target = "type", constant = "car"),
+        @Mapping(target = "description", expression = "java(car.toString())")
+    })
+    CarDto carToCarDto(Car car);
+
+    @Mapping(target = "make", ignore = true)
+    void updateCarDto(@MappingTarget CarDto target, Car car);
+
+    @Mapping(target = "make", constant = "single")
+    CarDto toDto(Car car);
+
+    @Mapping(target = "make", constant = "list")
+    java.util.List<CarDto> toDto(java.util.List<Car> cars);
+
+    default String helper(String value) {
+        return value;
+    }
+}
+
+@MapperConfig(uses = CarMapper.class)
+interface CentralConfig {
+
+    CarDto configPrototype(Car car);
+}
+
+interface MissingAnnotationMapper {
+
+    @Mapping(target = "seatCount", source = "numberOfSeats")
+    CarDto map(Car car);
+
+    CarDto notAMappingMethod(Car car);
+}
+
+class NotAMapper {
+
+    String value(String value) {
+        return value;
+    }
+}
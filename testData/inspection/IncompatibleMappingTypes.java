@@ -0,0 +1,444 @@
+/*
+ *  Copyright 2017 the MapStruct authors (http://www.mapstruct.org/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+import java.util.Calendar;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+import javax.xml.bind.JAXBElement;
+import javax.xml.datatype.XMLGregorianCalendar;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
+import org.mapstruct.Mappings;
+
+class Address {
+
+    private String street;
+
+    public String getStreet() {
+        return street;
+    }
+
+    public void setStreet(String street) {
+        this.street = street;
+    }
+}
+
+class AddressDto {
+
+    private String street;
+
+    public String getStreet() {
+        return street;
+    }
+
+    public void setStreet(String street) {
+        this.street = street;
+    }
+}
+
+enum Status {
+    ACTIVE, INACTIVE
+}
+
+class Person {
+
+    private String name;
+    private String age;
+    private boolean active;
+    private Status status;
+    private Address address;
+    private List<String> tags;
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getAge() {
+        return age;
+    }
+
+    public void setAge(String age) {
+        this.age = age;
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+    public void setActive(boolean active) {
+        this.active = active;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+
+    public Address getAddress() {
+        return address;
+    }
+
+    public void setAddress(Address address) {
+        this.address = address;
+    }
+
+    public List<String> getTags() {
+        return tags;
+    }
+
+    public void setTags(List<String> tags) {
+        this.tags = tags;
+    }
+}
+
+class PersonDto {
+
+    private int years;
+    private String state;
+    private long flag;
+    private AddressDto location;
+    private String street;
+    private Address home;
+    private Set<String> labels;
+
+    public int getYears() {
+        return years;
+    }
+
+    public void setYears(int years) {
+        this.years = years;
+    }
+
+    public String getState() {
+        return state;
+    }
+
+    public void setState(String state) {
+        this.state = state;
+    }
+
+    public long getFlag() {
+        return flag;
+    }
+
+    public void setFlag(long flag) {
+        this.flag = flag;
+    }
+
+    public AddressDto getLocation() {
+        return location;
+    }
+
+    public void setLocation(AddressDto location) {
+        this.location = location;
+    }
+
+    public String getStreet() {
+        return street;
+    }
+
+    public void setStreet(String street) {
+        this.street = street;
+    }
+
+    public Address getHome() {
+        return home;
+    }
+
+    public void setHome(Address home) {
+        this.home = home;
+    }
+
+    public Set<String> getLabels() {
+        return labels;
+    }
+
+    public void setLabels(Set<String> labels) {
+        this.labels = labels;
+    }
+}
+
+@Mapper
+interface CompatibleMapper {
+
+    @Mappings({
+        @Mapping(target = "years", source = "age"),
+        @Mapping(target = "state", source = "status"),
+        @Mapping(target = "location", source = "address"),
+        @Mapping(target = "street", source = "address.street"),
+        @Mapping(target = "home", source = "person.address"),
+        @Mapping(target = "labels", source = "tags"),
+        @Mapping(target = "flag", ignore = true)
+    })
+    PersonDto map(Person person);
+
+    @Mapping(target = "years", source = "age")
+    void update(Person person, @MappingTarget PersonDto target);
+}
+
+@Mapper
+interface IncompatibleMapper {
+
+    @Mappings({
+        @Mapping(target = "years", source = <warning descr="Cannot map 'Address' into 'int'">"address"</warning>),
+        @Mapping(target = "street", source = <warning descr="Cannot map 'Address' into 'String'">"address"</warning>),
+        @Mapping(target = "flag", source = <warning descr="Cannot map 'boolean' into 'long'">"active"</warning>),
+        @Mapping(target = "state", source = "address", qualifiedByName = "addressToString")
+    })
+    PersonDto map(Person person);
+}
+
+@Mapper
+interface MappingMethodMapper {
+
+    @Mapping(target = "street", source = "address")
+    PersonDto map(Person person);
+
+    String addressToString(Address address);
+}
+
+class BaseEntity {
+}
+
+class Car extends BaseEntity {
+}
+
+class Garage {
+
+    private Car car;
+    private java.util.Currency currency;
+
+    public Car getCar() {
+        return car;
+    }
+
+    public void setCar(Car car) {
+        this.car = car;
+    }
+
+    public java.util.Currency getCurrency() {
+        return currency;
+    }
+
+    public void setCurrency(java.util.Currency currency) {
+        this.currency = currency;
+    }
+}
+
+class GarageDto {
+
+    private Long carId;
+    private String carName;
+    private Status carStatus;
+    private String currency;
+    private Long currencyId;
+    private boolean carAvailable;
+
+    public Long getCarId() {
+        return carId;
+    }
+
+    public void setCarId(Long carId) {
+        this.carId = carId;
+    }
+
+    public String getCarName() {
+        return carName;
+    }
+
+    public void setCarName(String carName) {
+        this.carName = carName;
+    }
+
+    public Status getCarStatus() {
+        return carStatus;
+    }
+
+    public void setCarStatus(Status carStatus) {
+        this.carStatus = carStatus;
+    }
+
+    public String getCurrency() {
+        return currency;
+    }
+
+    public void setCurrency(String currency) {
+        this.currency = currency;
+    }
+
+    public Long getCurrencyId() {
+        return currencyId;
+    }
+
+    public void setCurrencyId(Long currencyId) {
+        this.currencyId = currencyId;
+    }
+
+    public boolean isCarAvailable() {
+        return carAvailable;
+    }
+
+    public void setCarAvailable(boolean carAvailable) {
+        this.carAvailable = carAvailable;
+    }
+}
+
+class EntityMapper {
+
+    Long toId(BaseEntity entity) {
+        return null;
+    }
+
+    String toName(BaseEntity entity) {
+        return null;
+    }
+
+    Status toStatus(BaseEntity entity) {
+        return null;
+    }
+}
+
+@Mapper(uses = EntityMapper.class)
+interface UsedMappingMethodMapper {
+
+    @Mappings({
+        @Mapping(target = "carId", source = "car"),
+        @Mapping(target = "carName", source = "car"),
+        @Mapping(target = "carStatus", source = "car"),
+        @Mapping(target = "currency", source = "currency"),
+        @Mapping(target = "currencyId", source = <warning descr="Cannot map 'Currency' into 'Long'">"currency"</warning>),
+        @Mapping(target = "carAvailable", source = <warning descr="Cannot map 'Car' into 'boolean'">"car"</warning>)
+    })
+    GarageDto map(Garage garage);
+}
+
+class Order {
+
+    private XMLGregorianCalendar xmlDate;
+    private JAXBElement<String> jaxbName;
+    private JAXBElement<Address> jaxbAddress;
+
+    public XMLGregorianCalendar getXmlDate() {
+        return xmlDate;
+    }
+
+    public void setXmlDate(XMLGregorianCalendar xmlDate) {
+        this.xmlDate = xmlDate;
+    }
+
+    public JAXBElement<String> getJaxbName() {
+        return jaxbName;
+    }
+
+    public void setJaxbName(JAXBElement<String> jaxbName) {
+        this.jaxbName = jaxbName;
+    }
+
+    public JAXBElement<Address> getJaxbAddress() {
+        return jaxbAddress;
+    }
+
+    public void setJaxbAddress(JAXBElement<Address> jaxbAddress) {
+        this.jaxbAddress = jaxbAddress;
+    }
+}
+
+class OrderDto {
+
+    private Date date;
+    private Calendar calendar;
+    private String dateText;
+    private String name;
+    private String street;
+    private AddressDto address;
+
+    public Date getDate() {
+        return date;
+    }
+
+    public void setDate(Date date) {
+        this.date = date;
+    }
+
+    public Calendar getCalendar() {
+        return calendar;
+    }
+
+    public void setCalendar(Calendar calendar) {
+        this.calendar = calendar;
+    }
+
+    public String getDateText() {
+        return dateText;
+    }
+
+    public void setDateText(String dateText) {
+        this.dateText = dateText;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getStreet() {
+        return street;
+    }
+
+    public void setStreet(String street) {
+        this.street = street;
+    }
+
+    public AddressDto getAddress() {
+        return address;
+    }
+
+    public void setAddress(AddressDto address) {
+        this.address = address;
+    }
+}
+
+@Mapper
+interface XmlTypesMapper {
+
+    @Mappings({
+        @Mapping(target = "date", source = "xmlDate"),
+        @Mapping(target = "calendar", source = "xmlDate"),
+        @Mapping(target = "dateText", source = "xmlDate"),
+        @Mapping(target = "name", source = "jaxbName"),
+        @Mapping(target = "address", source = "jaxbAddress"),
+        @Mapping(target = "street", source = <warning descr="Cannot map 'JAXBElement<Address>' into 'String'">"jaxbAddress"</warning>)
+    })
+    OrderDto map(Order order);
+
+    @Mapping(target = "xmlDate", source = "date")
+    void update(OrderDto orderDto, @MappingTarget Order order);
+}
@@ -187,3 +187,10 @@ abstract class MapperConfigWithValueMappingsAnnotations {
     })
     abstract Target map(Source source);
 }
+
+interface <error descr="@Mapper or @MapperConfig annotation missing">InterfaceInheritingMappingAnnotations</error>
+    extends InterfaceWithMappingAnnotations {
+}
+
+abstract class ClassInheritingWithoutAnnotations extends ClassWithoutAnnotations {
+}
@@ -61,7 +61,7 @@ interface NoMappingMapper {
     Target <warning descr="Unmapped target properties: moreTarget, testName">map</warning>(Source source);
 
     @org.mapstruct.InheritInverseConfiguration
-    Source reverse(Target target);
+    Source <warning descr="Unmapped target properties: moreSource, name, onlyInSource">reverse</warning>(Target target);
 }
 
 @Mapper
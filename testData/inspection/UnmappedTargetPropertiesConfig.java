@@ -0,0 +1,77 @@
+/*
+ *  Copyright 2017 the MapStruct authors (http://www.mapstruct.org/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+import org.mapstruct.InheritConfiguration;
+import org.mapstruct.Mapper;
+import org.mapstruct.MapperConfig;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingInheritanceStrategy;
+import org.mapstruct.ReportingPolicy;
+import org.example.data.UnmappedTargetPropertiesData.Target;
+import org.example.data.UnmappedTargetPropertiesData.Source;
+
+@MapperConfig(
+    unmappedTargetPolicy = ReportingPolicy.ERROR,
+    mappingInheritanceStrategy = MappingInheritanceStrategy.AUTO_INHERIT_FROM_CONFIG
+)
+interface CentralConfig {
+
+    @Mapping(target = "testName", source = "name")
+    Target <error descr="Unmapped target property: moreTarget">map</error>(Source source);
+}
+
+@Mapper(config = CentralConfig.class)
+interface AutoInheritMapper {
+
+    Target <error descr="Unmapped target property: moreTarget">map</error>(Source source);
+}
+
+@Mapper(config = CentralConfig.class, unmappedTargetPolicy = ReportingPolicy.IGNORE)
+interface IgnoreUnmappedMapper {
+
+    Target map(Source source);
+}
+
+@Mapper(config = CentralConfig.class, mappingInheritanceStrategy = MappingInheritanceStrategy.EXPLICIT)
+interface ExplicitInheritanceMapper {
+
+    Target <error descr="Unmapped target properties: moreTarget, testName">map</error>(Source source);
+}
+
+@MapperConfig
+interface ExplicitConfig {
+
+    @Mapping(target = "testName", source = "name")
+    Target <warning descr="Unmapped target property: moreTarget">map</warning>(Source source);
+}
+
+@Mapper(config = ExplicitConfig.class, mappingInheritanceStrategy = MappingInheritanceStrategy.AUTO_INHERIT_FROM_CONFIG)
+interface AutoInheritOnMapperMapper {
+
+    Target <warning descr="Unmapped target property: moreTarget">map</warning>(Source source);
+}
+
+@Mapper
+interface InheritConfigurationMapper {
+
+    @Mapping(target = "moreTarget", ignore = true)
+    Target <warning descr="Unmapped target property: testName">base</warning>(Source source);
+
+    @InheritConfiguration
+    Target <warning descr="Unmapped target property: testName">inherited</warning>(Source source);
+}
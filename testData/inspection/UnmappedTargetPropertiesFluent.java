@@ -0,0 +1,65 @@
+/*
+ *  Copyright 2017 the MapStruct authors (http://www.mapstruct.org/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+class Source {
+
+    public String name() {
+        return null;
+    }
+
+    public String description() {
+        return null;
+    }
+
+    @Override
+    public String toString() {
+        return "Source";
+    }
+}
+
+class Target {
+
+    public Target name(String name) {
+        return this;
+    }
+
+    public Target description(String description) {
+        return this;
+    }
+
+    public void setLabel(String label) {
+    }
+
+    public Target number(int number) {
+        return this;
+    }
+
+    public static Target create(String value) {
+        return new Target();
+    }
+}
+
+@Mapper
+interface FluentMapper {
+
+    @Mapping(target = "label", source = "name")
+    Target <warning descr="Unmapped target property: number">map</warning>(Source source);
+}
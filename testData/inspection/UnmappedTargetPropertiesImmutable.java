@@ -0,0 +1,98 @@
+/*
+ *  Copyright 2017 the MapStruct authors (http://www.mapstruct.org/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+class Source {
+
+    public String getName() {
+        return null;
+    }
+}
+
+class BuilderTarget {
+
+    private final String name;
+    private final String description;
+    private final int number;
+
+    private BuilderTarget(Builder builder) {
+        this.name = builder.name;
+        this.description = builder.description;
+        this.number = builder.number;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+
+        private String name;
+        private String description;
+        private int number;
+
+        public Builder name(String name) {
+            this.name = name;
+            return this;
+        }
+
+        public Builder setDescription(String description) {
+            this.description = description;
+            return this;
+        }
+
+        public Builder number(int number) {
+            this.number = number;
+            return this;
+        }
+
+        public BuilderTarget build() {
+            return new BuilderTarget( this );
+        }
+    }
+}
+
+class ConstructorTarget {
+
+    private final String name;
+    private final String description;
+
+    public ConstructorTarget(String name, String description) {
+        this.name = name;
+        this.description = description;
+    }
+
+    public String getName() {
+        return name;
+    }
+}
+
+@Mapper
+interface ImmutableMapper {
+
+    @Mapping(target = "number", ignore = true)
+    BuilderTarget <warning descr="Unmapped target property: description">toBuilderTarget</warning>(Source source);
+
+    ConstructorTarget <warning descr="Unmapped target property: description">toConstructorTarget</warning>(Source source);
+}
@@ -0,0 +1,53 @@
+/*
+ *  Copyright 2017 the MapStruct authors (http://www.mapstruct.org/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+import org.mapstruct.InheritInverseConfiguration;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.Mappings;
+import org.example.data.UnmappedTargetPropertiesData.Target;
+import org.example.data.UnmappedTargetPropertiesData.Source;
+
+@Mapper
+interface InverseMapper {
+
+    @Mappings({
+        @Mapping(target = "testName", source = "name"),
+        @Mapping(target = "moreTarget", source = "source.moreSource")
+    })
+    Target map(Source source);
+
+    @InheritInverseConfiguration
+    Source <warning descr="Unmapped target property: onlyInSource">reverse</warning>(Target target);
+}
+
+@Mapper
+interface NamedInverseMapper {
+
+    @Mapping(target = "testName", source = "name")
+    Target map(Source source);
+
+    @Mappings({
+        @Mapping(target = "testName", ignore = true),
+        @Mapping(target = "moreTarget", source = "onlyInSource")
+    })
+    Target mapOther(Source source);
+
+    @InheritInverseConfiguration(name = "mapOther")
+    Source <warning descr="Unmapped target properties: moreSource, name">reverse</warning>(Target target);
+}
@@ -59,6 +59,12 @@ interface NoMappingMapper {
     @Mapping(target = "moreTarget", ignore = true)
     Target map(Source source);
 
+    @Mapping(target = "onlyInSource", source = "")
+    @Mapping(target = "onlyInSource", ignore = true)
+    @Mapping(target = "name", source = "")
+    @Mapping(target = "name", ignore = true)
+    @Mapping(target = "moreSource", source = "")
+    @Mapping(target = "moreSource", ignore = true)
     @org.mapstruct.InheritInverseConfiguration
     Source reverse(Target target);
 }
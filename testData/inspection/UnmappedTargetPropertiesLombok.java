@@ -0,0 +1,79 @@
+/*
+ *  Copyright 2017 the MapStruct authors (http://www.mapstruct.org/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Data;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.Value;
+import org.mapstruct.Mapper;
+
+@Data
+class Source {
+
+    private String name;
+    private String description;
+    private boolean active;
+}
+
+@Data
+class DataTarget {
+
+    private String name;
+    private String description;
+    private boolean active;
+    private String label;
+}
+
+@Value
+class ValueTarget {
+
+    String name;
+    String label;
+}
+
+@Builder
+class BuilderTarget {
+
+    private String name;
+    private final String constant = "constant";
+    private String label;
+}
+
+@Getter
+@Setter
+class PartialTarget {
+
+    private String name;
+    @Setter(AccessLevel.NONE)
+    private String label;
+    private String other;
+}
+
+@Mapper
+interface LombokMapper {
+
+    DataTarget <warning descr="Unmapped target property: label">toDataTarget</warning>(Source source);
+
+    ValueTarget <warning descr="Unmapped target property: label">toValueTarget</warning>(Source source);
+
+    BuilderTarget <warning descr="Unmapped target property: label">toBuilderTarget</warning>(Source source);
+
+    PartialTarget <warning descr="Unmapped target property: other">toPartialTarget</warning>(Source source);
+}
@@ -0,0 +1,72 @@
+/*
+ *  Copyright 2017 the MapStruct authors (http://www.mapstruct.org/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+import org.mapstruct.Mapper;
+
+class Source {
+
+    public String getName() {
+        return null;
+    }
+}
+
+class Target {
+
+    public void setName(String name) {
+    }
+
+    public void setAge(int age) {
+    }
+
+    public void setLabel(String label) {
+    }
+}
+
+/**
+ * The compiled form of {@code record Person(String name, int age)}.
+ */
+final class Person extends Record {
+
+    private final String name;
+    private final int age;
+
+    public Person(String name, int age) {
+        this.name = name;
+        this.age = age;
+    }
+
+    public Person(String name) {
+        this( name, 0 );
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public int age() {
+        return age;
+    }
+}
+
+@Mapper
+interface RecordMapper {
+
+    Person <warning descr="Unmapped target property: age">toPerson</warning>(Source source);
+
+    Target <warning descr="Unmapped target property: label">fromPerson</warning>(Person person);
+}
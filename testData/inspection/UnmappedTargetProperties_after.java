@@ -74,6 +74,14 @@ interface NoMappingMapper {
     })
     Target map(Source source);
 
+    @Mappings({
+            @Mapping(target = "moreSource", ignore = true),
+            @Mapping(target = "moreSource", source = ""),
+            @Mapping(target = "name", ignore = true),
+            @Mapping(target = "name", source = ""),
+            @Mapping(target = "onlyInSource", ignore = true),
+            @Mapping(target = "onlyInSource", source = "")
+    })
     @org.mapstruct.InheritInverseConfiguration
     Source reverse(Target target);
 }
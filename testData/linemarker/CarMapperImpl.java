@@ -0,0 +1,33 @@
+/*
+ *  Copyright 2017 the MapStruct authors (http://www.mapstruct.org/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.example.mapper;
+
+import javax.annotation.Generated;
+
+@Generated(
+    value = "org.mapstruct.ap.MapperProcessor",
+    comments = "version: 1.2.0.Final"
+)
+public class CarMapperImpl implements CarMapper {
+
+    @Override
+    public String <caret>carToString(Integer car) {
+        return car == null ? null : String.valueOf( car );
+    }
+}
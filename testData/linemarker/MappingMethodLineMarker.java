@@ -0,0 +1,82 @@
+/*
+ *  Copyright 2017 the MapStruct authors (http://www.mapstruct.org/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.example.mapper;
+
+import org.mapstruct.AfterMapping;
+import org.mapstruct.BeforeMapping;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
+import org.mapstruct.ObjectFactory;
+
+class Source {
+
+    private String name;
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+}
+
+class Target {
+
+    private String name;
+    private String make;
+    private int seats;
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public void setMake(String make) {
+        this.make = make;
+    }
+
+    public void setSeats(int seats) {
+        this.seats = seats;
+    }
+}
+
+@Mapper
+public interface MappingMethodLineMarker {
+
+    @Mapping(target = "make", ignore = true)
+    Target <caret>map(Source source);
+
+    @BeforeMapping
+    default void beforeMap(Source source, @MappingTarget Target target) {
+    }
+
+    @AfterMapping
+    default void afterMap(Source source, @MappingTarget Target target) {
+    }
+
+    @ObjectFactory
+    default Target createTarget(Source source) {
+        return new Target();
+    }
+
+    default Target helper(Source source) {
+        return null;
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ *  Copyright 2017 the MapStruct authors (http://www.mapstruct.org/)
+ *  and/or other contributors as indicated by the @authors tag. See the
+ *  copyright.txt file in the distribution for a full listing of all
+ *  contributors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.mapstruct.ap.test.complex;
+
+import java.util.List;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.Mappings;
+import org.example.dto.CarDto;
+import org.example.dto.PersonDto;
+import org.example.dto.Car;
+import org.example.dto.Person;
+
+@Mapper
+public interface CarMapper {
+
+    @Mappings({
+        @Mapping(source = "numberOfSeats", target = "ma<caret>"),
+        @Mapping(source = "manufacturingDate", target = "manufacturingYear")
+    })
+    CarDto carToCarDto(Car car);
+}